@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.bench;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.idea.inspection.abbrev.IgniteAbbreviationConfig;
+import org.apache.ignite.idea.inspection.comment.IgniteCommentInspection;
+import org.apache.ignite.idea.util.IgniteUtils;
+import org.apache.ignite.idea.util.IgniteUtils.CamelCaseSpans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the naming engine hot paths over a corpus of identifiers harvested from Apache Ignite.
+ * <p>
+ * Every invocation processes the next identifier of the corpus, so scores are per identifier. Run with
+ * {@code ./gradlew jmh}, the GC profiler reports allocation rate next to throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IgniteNamingBenchmark {
+    /** Identifiers corpus resource. */
+    private static final String CORPUS = "/identifiers.txt";
+
+    /** Identifiers. */
+    private String[] ids;
+
+    /** Index of the next identifier. */
+    private int idx;
+
+    /** Plugin default abbreviation rules. */
+    private IgniteAbbreviationConfig.Config cfg;
+
+    /** Reusable name parts buffer. */
+    private final CamelCaseSpans spans = new CamelCaseSpans();
+
+    /**
+     * @throws IOException If failed to read corpus or rules.
+     */
+    @Setup
+    public void setup() throws IOException {
+        ids = corpus();
+
+        try (InputStream is = IgniteAbbreviationConfig.class.getResourceAsStream("/abbreviation.properties")) {
+            cfg = new IgniteAbbreviationConfig.Config(is);
+        }
+    }
+
+    /** @return Legacy list of parts. */
+    @Benchmark
+    public List<String> camelCaseParts() {
+        return IgniteUtils.camelCaseParts(next());
+    }
+
+    /** @return Parts boundaries. */
+    @Benchmark
+    public CamelCaseSpans splitCamelCase() {
+        return IgniteUtils.splitCamelCase(next(), spans);
+    }
+
+    /** @return Space separated lower case text. */
+    @Benchmark
+    public String transformCamelCase() {
+        return IgniteUtils.transformCamelCase(next(),
+            (s, start, end, partIdx, out) -> IgniteUtils.appendLowerCase(out, s, start, end, false).append(' '));
+    }
+
+    /** @return Abbreviated name. */
+    @Benchmark
+    public String replaceWithAbbreviations() {
+        String id = next();
+
+        return cfg.replaceWithAbbreviations(id, IgniteUtils.splitCamelCase(id, spans));
+    }
+
+    /** @param bh Black hole. */
+    @Benchmark
+    public void abbreviationLookups(Blackhole bh) {
+        String id = next();
+
+        IgniteUtils.splitCamelCase(id, spans);
+
+        for (int i = 0; i < spans.size(); i++)
+            bh.consume(cfg.getAbbreviation(id, spans.start(i), spans.length(i)));
+    }
+
+    /** @return Javadoc text generated from a name. */
+    @Benchmark
+    public String commentText() {
+        return IgniteCommentInspection.camelCaseToTextUnwrapAbbrev(cfg, next());
+    }
+
+    /** @return Next identifier of the corpus. */
+    private String next() {
+        String id = ids[idx];
+
+        idx = idx + 1 == ids.length ? 0 : idx + 1;
+
+        return id;
+    }
+
+    /**
+     * @return Identifiers of the corpus.
+     * @throws IOException If failed.
+     */
+    private static String[] corpus() throws IOException {
+        List<String> res = new ArrayList<>();
+
+        try (BufferedReader r = new BufferedReader(new InputStreamReader(
+            IgniteNamingBenchmark.class.getResourceAsStream(CORPUS), StandardCharsets.UTF_8))) {
+            for (String line = r.readLine(); line != null; line = r.readLine()) {
+                line = line.trim();
+
+                if (!line.isEmpty() && !line.startsWith("#"))
+                    res.add(line);
+            }
+        }
+
+        return res.toArray(new String[0]);
+    }
+}
@@ -23,6 +23,8 @@ import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.LangDataKeys;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.command.CommandProcessor;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.project.Project;
@@ -30,10 +32,10 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.codeStyle.CodeStyleManager;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import org.apache.ignite.idea.intention.IgniteGetterSetterGenerator;
 
@@ -58,12 +60,30 @@ public class IgniteGetterSetterAction extends AnAction {
 
         final IgniteGetterSetterGenerator gen = new IgniteGetterSetterGenerator();
 
-        Collection<PsiFieldMember> mFields = new LinkedList<PsiFieldMember>();
+        // Existing accessors of a wide class are looked up in background, the chooser opens when they are known.
+        ReadAction.nonBlocking(() -> gen.availableFields(project, psiCls))
+            .inSmartMode(project)
+            .expireWith(project)
+            .expireWhen(() -> !psiCls.isValid())
+            .finishOnUiThread(ModalityState.defaultModalityState(),
+                fields -> chooseAndGenerate(project, psiCls, gen, fields))
+            .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    /**
+     * Shows a chooser of fields and generates accessors of the chosen ones.
+     *
+     * @param project Project.
+     * @param psiCls Class.
+     * @param gen Generator.
+     * @param fields Fields that have no accessors yet.
+     */
+    private void chooseAndGenerate(final Project project, final PsiClass psiCls, final IgniteGetterSetterGenerator gen,
+        List<PsiField> fields) {
+        Collection<PsiFieldMember> mFields = new ArrayList<>(fields.size());
 
-        for (PsiField field : psiCls.getFields()) {
-            if (gen.isAvailable(project, editor, field))
-                mFields.add(new PsiFieldMember(field));
-        }
+        for (PsiField field : fields)
+            mFields.add(new PsiFieldMember(field));
 
         MemberChooser<PsiFieldMember> mc = new MemberChooser<PsiFieldMember>(
             mFields.toArray(new PsiFieldMember[mFields.size()]), true, true, project);
@@ -78,16 +98,16 @@ public class IgniteGetterSetterAction extends AnAction {
         if (members == null)
             return;
 
-        // Generate code.
-        runWriteCommand(project, new Runnable() {
-            @Override public void run() {
-                for (PsiFieldMember fm : members) {
-                    gen.invoke(project, editor, fm.getPsiElement());
+        final List<PsiField> chosen = new ArrayList<>(members.size());
 
-                    CodeStyleManager codeStyleMan = CodeStyleManager.getInstance(project);
+        for (PsiFieldMember fm : members)
+            chosen.add(fm.getPsiElement());
 
-                    codeStyleMan.reformat(psiCls);
-                }
+        // Generate code of all fields at once.
+        runWriteCommand(project, new Runnable() {
+            @Override public void run() {
+                if (psiCls.isValid())
+                    gen.generate(project, psiCls, chosen);
             }
         });
     }
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.action;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.actionSystem.PlatformCoreDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.util.Ref;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiPackage;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.refactoring.ui.ConflictsDialog;
+import com.intellij.util.containers.MultiMap;
+import org.apache.ignite.idea.inspection.abbrev.IgniteBulkRename;
+import org.apache.ignite.idea.intention.IgniteGetterSetterSubstitutor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Action that brings getters and setters of all classes of selected packages, directories, modules or files to
+ * Apache Ignite style.
+ * <p>
+ * Methods of all classes are renamed by a single refactoring: usages are searched once, conflicts are shown before
+ * anything changes and the changes are previewed and applied in one undoable command.
+ */
+public class IgniteIgnitifyAction extends AnAction {
+    /** Title. */
+    private static final String TITLE = "Ignitify Getters and Setters";
+
+    /** {@inheritDoc} */
+    @Override public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(e.getProject() != null &&
+            (e.getData(LangDataKeys.MODULE_CONTEXT_ARRAY) != null || e.getData(LangDataKeys.MODULE_CONTEXT) != null ||
+                hasJavaTargets(e.getData(PlatformCoreDataKeys.PSI_ELEMENT_ARRAY)) ||
+                e.getData(CommonDataKeys.PSI_FILE) instanceof PsiJavaFile));
+    }
+
+    /** {@inheritDoc} */
+    @NotNull @Override public ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+
+        if (project == null)
+            return;
+
+        List<Object> targets = targets(e);
+
+        IgniteBulkRename rename = new IgniteBulkRename(project).previewUsages(true).commandName(TITLE);
+
+        Ref<MultiMap<PsiElement, String>> conflicts = new Ref<>();
+
+        boolean completed = ProgressManager.getInstance().runProcessWithProgressSynchronously(() ->
+            conflicts.set(ReadAction.compute(() ->
+                IgniteGetterSetterSubstitutor.collect(classes(project, targets), rename))),
+            "Searching Getters and Setters", true, project);
+
+        if (!completed)
+            return;
+
+        // Conflicting methods are not renamed, the rest may be renamed anyway.
+        if (!conflicts.get().isEmpty() && !new ConflictsDialog(project, conflicts.get()).showAndGet())
+            return;
+
+        if (rename.size() == 0) {
+            Messages.showInfoMessage(project, "There are no getters and setters to rename.", TITLE);
+
+            return;
+        }
+
+        rename.run();
+    }
+
+    /**
+     * @param e Event.
+     * @return Selected modules, directories, packages, files and classes.
+     */
+    private static List<Object> targets(AnActionEvent e) {
+        List<Object> res = new ArrayList<>();
+
+        Module[] modules = e.getData(LangDataKeys.MODULE_CONTEXT_ARRAY);
+
+        if (modules != null)
+            res.addAll(List.of(modules));
+        else if (e.getData(LangDataKeys.MODULE_CONTEXT) != null)
+            res.add(e.getData(LangDataKeys.MODULE_CONTEXT));
+
+        PsiElement[] elems = e.getData(PlatformCoreDataKeys.PSI_ELEMENT_ARRAY);
+
+        if (elems != null)
+            res.addAll(List.of(elems));
+        else if (res.isEmpty() && e.getData(CommonDataKeys.PSI_FILE) != null)
+            res.add(e.getData(CommonDataKeys.PSI_FILE));
+
+        return res;
+    }
+
+    /**
+     * Finds classes of the targets. Must be called inside a read action.
+     *
+     * @param project Project.
+     * @param targets Modules, directories, packages, files and classes.
+     * @return Classes of the targets in project sources, including nested classes.
+     */
+    static Collection<PsiClass> classes(Project project, List<Object> targets) {
+        ProjectFileIndex idx = ProjectFileIndex.getInstance(project);
+
+        PsiManager psiMgr = PsiManager.getInstance(project);
+
+        Set<PsiJavaFile> files = new LinkedHashSet<>();
+        Set<PsiClass> res = new LinkedHashSet<>();
+
+        for (Object target : targets) {
+            ProgressManager.checkCanceled();
+
+            List<VirtualFile> roots = new ArrayList<>();
+
+            if (target instanceof Module)
+                roots.addAll(List.of(ModuleRootManager.getInstance((Module)target).getSourceRoots(false)));
+            else if (target instanceof PsiDirectory)
+                roots.add(((PsiDirectory)target).getVirtualFile());
+            else if (target instanceof PsiPackage) {
+                for (PsiDirectory dir : ((PsiPackage)target).getDirectories(GlobalSearchScope.projectScope(project)))
+                    roots.add(dir.getVirtualFile());
+            }
+            else if (target instanceof PsiJavaFile)
+                files.add((PsiJavaFile)target);
+            else if (target instanceof PsiClass) {
+                res.add((PsiClass)target);
+                res.addAll(PsiTreeUtil.findChildrenOfType((PsiClass)target, PsiClass.class));
+            }
+
+            for (VirtualFile root : roots) {
+                idx.iterateContentUnderDirectory(root, file -> {
+                    ProgressManager.checkCanceled();
+
+                    PsiFile psiFile = !file.isDirectory() && idx.isInSourceContent(file) ? psiMgr.findFile(file) : null;
+
+                    if (psiFile instanceof PsiJavaFile)
+                        files.add((PsiJavaFile)psiFile);
+
+                    return true;
+                });
+            }
+        }
+
+        for (PsiJavaFile file : files)
+            res.addAll(PsiTreeUtil.findChildrenOfType(file, PsiClass.class));
+
+        return res;
+    }
+
+    /**
+     * @param elems Selected elements.
+     * @return Whether some of the elements may contain Java classes.
+     */
+    private static boolean hasJavaTargets(PsiElement[] elems) {
+        if (elems == null)
+            return false;
+
+        for (PsiElement elem : elems) {
+            if (elem instanceof PsiDirectory || elem instanceof PsiPackage || elem instanceof PsiJavaFile ||
+                elem instanceof PsiClass)
+                return true;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,635 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.batch;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import com.intellij.codeHighlighting.HighlightDisplayLevel;
+import com.intellij.codeInsight.daemon.HighlightDisplayKey;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.InspectionProfile;
+import com.intellij.codeInspection.LocalInspectionEP;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemDescriptorBase;
+import com.intellij.codeInspection.ProblemDescriptorUtil;
+import com.intellij.codeInspection.ex.InspectionToolWrapper;
+import com.intellij.execution.ExecutionException;
+import com.intellij.execution.configurations.GeneralCommandLine;
+import com.intellij.execution.process.ProcessOutput;
+import com.intellij.execution.util.ExecUtil;
+import com.intellij.ide.plugins.IdeaPluginDescriptor;
+import com.intellij.ide.plugins.PluginManagerCore;
+import com.intellij.lang.Language;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.extensions.PluginId;
+import com.intellij.openapi.fileTypes.LanguageFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.profile.codeInspection.InspectionProjectProfileManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import org.apache.ignite.idea.inspection.IgniteUncomparableTypes;
+import org.apache.ignite.idea.inspection.abbrev.IgniteAbbreviationConfig;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runs Apache Ignite inspections over all source files of an opened project and streams violations to SARIF.
+ * <p>
+ * Files are inspected in parallel, each one in a non-blocking read action that restarts if a write action
+ * interrupts it. The number of files in flight is bounded, so memory does not grow with the project size.
+ * <p>
+ * In incremental mode only files from a list or changed since a git revision are inspected. Results are cached by
+ * content hash, abbreviation rules and inspection settings, so unchanged files are not inspected again and their
+ * previous results go to the report as is.
+ */
+public class IgniteBatchInspector {
+    /** Logger. */
+    private static final Logger LOG = Logger.getInstance(IgniteBatchInspector.class);
+
+    /** Plugin id. */
+    public static final String PLUGIN_ID = "org.apache.ignite.idea";
+
+    /** Project. */
+    private final Project project;
+
+    /** Options. */
+    private final IgniteBatchOptions opts;
+
+    /** Inspection profile of the project. */
+    private final InspectionProfile profile;
+
+    /** Inspections of the plugin. */
+    private final List<Tool> tools;
+
+    /** Project directory. */
+    @Nullable private final VirtualFile baseDir;
+
+    /**
+     * @param project Project.
+     * @param opts Options.
+     */
+    public IgniteBatchInspector(@NotNull Project project, @NotNull IgniteBatchOptions opts) {
+        this.project = project;
+        this.opts = opts;
+
+        profile = InspectionProjectProfileManager.getInstance(project).getCurrentProfile();
+        tools = pluginTools(project, profile);
+        baseDir = LocalFileSystem.getInstance().refreshAndFindFileByNioFile(opts.projectDir());
+    }
+
+    /**
+     * Inspects the project.
+     *
+     * @return Statistics.
+     * @throws IOException If failed to write the report.
+     * @throws InterruptedException If interrupted.
+     */
+    public Stats run() throws IOException, InterruptedException {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            pool.resetPeakUsage();
+
+        long start = System.nanoTime();
+
+        List<VirtualFile> files = opts.incremental() ? changedFiles() :
+            ReadAction.nonBlocking(this::sourceFiles).inSmartMode(project).executeSynchronously();
+
+        IgniteResultCache cache = opts.cache() != null ? IgniteResultCache.open(opts.cache()) : null;
+
+        byte[] salt = cache != null ?
+            ReadAction.nonBlocking(this::salt).executeSynchronously().getBytes(StandardCharsets.UTF_8) : null;
+
+        LOG.info("Inspecting " + files.size() + " files with " + tools.size() + " inspections in " +
+            opts.threads() + " threads" + (cache != null ? ", cache: " + opts.cache() : ""));
+
+        LongAdder inspected = new LongAdder();
+        LongAdder reused = new LongAdder();
+        AtomicReference<Throwable> err = new AtomicReference<>();
+
+        try (IgniteSarifWriter sarif = new IgniteSarifWriter(
+            Files.newBufferedWriter(opts.output(), StandardCharsets.UTF_8), "Apache Ignite inspections",
+            pluginVersion(), rules())) {
+            ExecutorService exec = Executors.newFixedThreadPool(opts.threads(), new NamedThreadFactory());
+
+            int maxInFlight = opts.threads() * 2;
+
+            Semaphore inFlight = new Semaphore(maxInFlight);
+
+            try {
+                for (VirtualFile file : files) {
+                    inFlight.acquire();
+
+                    if (err.get() != null) {
+                        inFlight.release();
+
+                        break;
+                    }
+
+                    exec.execute(() -> {
+                        try {
+                            String uri = uri(file);
+
+                            List<IgniteViolation> violations = null;
+
+                            long key = 0;
+
+                            if (cache != null && file.isValid()) {
+                                key = IgniteResultCache.key(salt, uri, file.contentsToByteArray());
+
+                                violations = cache.get(key);
+                            }
+
+                            if (violations != null)
+                                reused.increment();
+                            else {
+                                violations = ReadAction.nonBlocking(() -> inspect(file))
+                                    .inSmartMode(project)
+                                    .executeSynchronously();
+
+                                if (cache != null)
+                                    cache.put(key, violations);
+                            }
+
+                            for (IgniteViolation v : violations)
+                                sarif.result(v.ruleId(), v.level(), v.message(), uri, v.line(), v.column());
+
+                            inspected.increment();
+                        }
+                        catch (Throwable e) {
+                            err.compareAndSet(null, e);
+                        }
+                        finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+
+                // Wait for the files in flight.
+                inFlight.acquire(maxInFlight);
+            }
+            finally {
+                exec.shutdownNow();
+            }
+
+            if (err.get() != null)
+                throw new IOException("Failed to inspect project: " + opts.projectDir(), err.get());
+
+            if (cache != null) {
+                try {
+                    // Incremental runs see a part of the tree, so results of the other files are kept.
+                    cache.save(opts.incremental());
+                }
+                catch (IOException e) {
+                    LOG.warn("Failed to save results cache: " + opts.cache(), e);
+                }
+            }
+
+            return new Stats(inspected.sum(), reused.sum(), sarif.count(), System.nanoTime() - start, peakHeap());
+        }
+    }
+
+    /**
+     * @return Source files of the project in languages checked by the plugin inspections.
+     */
+    private List<VirtualFile> sourceFiles() {
+        ProjectFileIndex idx = ProjectFileIndex.getInstance(project);
+
+        List<VirtualFile> res = new ArrayList<>();
+
+        idx.iterateContent(file -> {
+            if (isChecked(idx, file))
+                res.add(file);
+
+            return true;
+        });
+
+        return res;
+    }
+
+    /**
+     * @return Changed source files of the project in languages checked by the plugin inspections.
+     * @throws IOException If failed to read the list of changed files.
+     */
+    private List<VirtualFile> changedFiles() throws IOException {
+        List<String> paths = opts.changed() != null ?
+            Files.readAllLines(opts.changed(), StandardCharsets.UTF_8) : gitChanged(opts.since());
+
+        LocalFileSystem fs = LocalFileSystem.getInstance();
+
+        List<VirtualFile> changed = new ArrayList<>();
+
+        for (String path : paths) {
+            path = path.trim();
+
+            if (path.isEmpty())
+                continue;
+
+            // Deleted files are not found and skipped.
+            VirtualFile file = fs.refreshAndFindFileByNioFile(opts.projectDir().resolve(path));
+
+            if (file != null)
+                changed.add(file);
+        }
+
+        return ReadAction.nonBlocking(() -> {
+            ProjectFileIndex idx = ProjectFileIndex.getInstance(project);
+
+            List<VirtualFile> res = new ArrayList<>();
+
+            for (VirtualFile file : changed) {
+                if (file.isValid() && isChecked(idx, file))
+                    res.add(file);
+            }
+
+            return res;
+        }).inSmartMode(project).executeSynchronously();
+    }
+
+    /**
+     * @param rev Git revision.
+     * @return Paths of files added, copied, modified or renamed since the revision, relative to the project directory.
+     * @throws IOException If git failed.
+     */
+    private List<String> gitChanged(String rev) throws IOException {
+        GeneralCommandLine cmd = new GeneralCommandLine("git", "diff", "--name-only", "--relative",
+            "--diff-filter=ACMR", rev, "--")
+            .withWorkDirectory(opts.projectDir().toFile())
+            .withCharset(StandardCharsets.UTF_8);
+
+        ProcessOutput out;
+
+        try {
+            out = ExecUtil.execAndGetOutput(cmd);
+        }
+        catch (ExecutionException e) {
+            throw new IOException("Failed to run git: " + e.getMessage(), e);
+        }
+
+        if (out.getExitCode() != 0)
+            throw new IOException("Failed to list files changed since " + rev + ": " + out.getStderr().trim());
+
+        return out.getStdoutLines();
+    }
+
+    /**
+     * @param idx Project file index.
+     * @param file File.
+     * @return Whether the file is a source file checked by at least one inspection.
+     */
+    private boolean isChecked(ProjectFileIndex idx, VirtualFile file) {
+        return !file.isDirectory() && idx.isInSourceContent(file) && isChecked(file);
+    }
+
+    /**
+     * @param file File.
+     * @return Whether at least one inspection checks files of this type.
+     */
+    private boolean isChecked(VirtualFile file) {
+        if (!(file.getFileType() instanceof LanguageFileType))
+            return false;
+
+        Language lang = ((LanguageFileType)file.getFileType()).getLanguage();
+
+        for (Tool tool : tools) {
+            if (tool.accepts(lang))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Inspects a file. Must be called inside a read action. Problems suppressed by {@code @SuppressWarnings} or
+     * {@code //noinspection} are skipped, as in the editor.
+     *
+     * @param file File.
+     * @return Violations.
+     */
+    List<IgniteViolation> inspect(VirtualFile file) {
+        if (!file.isValid())
+            return Collections.emptyList();
+
+        PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+
+        if (psiFile == null)
+            return Collections.emptyList();
+
+        Document doc = psiFile.getViewProvider().getDocument();
+
+        InspectionManager mgr = InspectionManager.getInstance(project);
+
+        List<IgniteViolation> res = new ArrayList<>();
+
+        for (Tool tool : tools) {
+            if (!tool.accepts(psiFile.getLanguage()) || !profile.isToolEnabled(tool.key, psiFile))
+                continue;
+
+            List<ProblemDescriptor> problems = tool.tool.processFile(psiFile, mgr);
+
+            if (problems.isEmpty())
+                continue;
+
+            String level = level(profile.getErrorLevel(tool.key, psiFile));
+
+            for (ProblemDescriptor problem : problems) {
+                PsiElement el = problem.getPsiElement();
+
+                if (el == null || tool.tool.isSuppressedFor(el))
+                    continue;
+
+                TextRange range = problem instanceof ProblemDescriptorBase ?
+                    ((ProblemDescriptorBase)problem).getTextRange() : null;
+
+                int off = range != null ? range.getStartOffset() : el.getTextRange().getStartOffset();
+
+                int line = 1;
+                int col = 1;
+
+                if (doc != null && off <= doc.getTextLength()) {
+                    int lineIdx = doc.getLineNumber(off);
+
+                    line = lineIdx + 1;
+                    col = off - doc.getLineStartOffset(lineIdx) + 1;
+                }
+
+                res.add(new IgniteViolation(tool.shortName, level,
+                    ProblemDescriptorUtil.renderDescriptionMessage(problem, el), line, col));
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * @param file File.
+     * @return File URI relative to the project directory if possible.
+     */
+    private String uri(VirtualFile file) {
+        String rel = baseDir != null ? VfsUtilCore.getRelativePath(file, baseDir, '/') : null;
+
+        return rel != null ? rel : file.getUrl();
+    }
+
+    /**
+     * Describes everything cached results depend on besides the file itself. Must be called inside a read action.
+     *
+     * @return Salt of cache keys.
+     */
+    private String salt() {
+        StringBuilder sb = new StringBuilder(pluginVersion()).append('\n');
+
+        sb.append(Long.toHexString(project.getService(IgniteAbbreviationConfig.class).getConfig().getDigest()))
+            .append('\n');
+
+        sb.append(String.join(",", project.getService(IgniteUncomparableTypes.class).getNames())).append('\n');
+
+        for (Tool tool : tools) {
+            sb.append(tool.shortName).append('=');
+
+            if (profile.isToolEnabled(tool.key))
+                sb.append(level(profile.getErrorLevel(tool.key, null)));
+            else
+                sb.append("off");
+
+            sb.append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * @return Map from rule ids to rule descriptions.
+     */
+    private Map<String, String> rules() {
+        Map<String, String> res = new LinkedHashMap<>();
+
+        for (Tool tool : tools)
+            res.put(tool.shortName, tool.displayName);
+
+        return res;
+    }
+
+    /**
+     * @param level Highlight level.
+     * @return SARIF level.
+     */
+    private static String level(HighlightDisplayLevel level) {
+        HighlightSeverity severity = level.getSeverity();
+
+        if (severity.compareTo(HighlightSeverity.ERROR) >= 0)
+            return "error";
+
+        if (severity.compareTo(HighlightSeverity.WARNING) >= 0)
+            return "warning";
+
+        return "note";
+    }
+
+    /**
+     * @return Plugin version.
+     */
+    private static String pluginVersion() {
+        IdeaPluginDescriptor plugin = PluginManagerCore.getPlugin(PluginId.getId(PLUGIN_ID));
+
+        return plugin != null ? plugin.getVersion() : "unknown";
+    }
+
+    /**
+     * @return Sum of peak usages of heap memory pools since the start of the run, in bytes.
+     */
+    private static long peakHeap() {
+        long res = 0;
+
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null)
+                res += pool.getPeakUsage().getUsed();
+        }
+
+        return res;
+    }
+
+    /**
+     * @param project Project.
+     * @param profile Inspection profile.
+     * @return Inspections registered by the plugin, configured as in the profile.
+     */
+    private static List<Tool> pluginTools(Project project, InspectionProfile profile) {
+        List<Tool> res = new ArrayList<>();
+
+        for (LocalInspectionEP ep : LocalInspectionEP.LOCAL_INSPECTION.getExtensionList()) {
+            if (ep.getPluginDescriptor() == null ||
+                !PLUGIN_ID.equals(ep.getPluginDescriptor().getPluginId().getIdString()))
+                continue;
+
+            String shortName = ep.getShortName();
+
+            HighlightDisplayKey key = HighlightDisplayKey.find(shortName);
+
+            if (key == null)
+                continue;
+
+            InspectionToolWrapper<?, ?> wrapper = profile.getInspectionTool(shortName, project);
+
+            Object tool = wrapper != null ? wrapper.getTool() : ep.instantiateTool();
+
+            if (!(tool instanceof LocalInspectionTool))
+                continue;
+
+            res.add(new Tool((LocalInspectionTool)tool, shortName, ep.getDisplayName(), key,
+                ep.language != null ? Language.findLanguageByID(ep.language) : null));
+        }
+
+        return res;
+    }
+
+    /**
+     * Plugin inspection.
+     */
+    private static class Tool {
+        /** Inspection. */
+        private final LocalInspectionTool tool;
+
+        /** Short name, used as a rule id. */
+        private final String shortName;
+
+        /** Display name. */
+        private final String displayName;
+
+        /** Profile key. */
+        private final HighlightDisplayKey key;
+
+        /** Language of checked files or {@code null} if any. */
+        @Nullable private final Language lang;
+
+        /**
+         * @param tool Inspection.
+         * @param shortName Short name.
+         * @param displayName Display name.
+         * @param key Profile key.
+         * @param lang Language of checked files.
+         */
+        private Tool(LocalInspectionTool tool, String shortName, String displayName, HighlightDisplayKey key,
+            @Nullable Language lang) {
+            this.tool = tool;
+            this.shortName = shortName;
+            this.displayName = displayName != null ? displayName : shortName;
+            this.key = key;
+            this.lang = lang;
+        }
+
+        /**
+         * @param fileLang File language.
+         * @return Whether the inspection checks files in this language.
+         */
+        private boolean accepts(Language fileLang) {
+            return lang == null || fileLang.isKindOf(lang);
+        }
+    }
+
+    /**
+     * Run statistics.
+     */
+    public static class Stats {
+        /** Number of checked files. */
+        private final long files;
+
+        /** Number of files with results reused from the cache. */
+        private final long reused;
+
+        /** Number of violations. */
+        private final long violations;
+
+        /** Duration in nanoseconds. */
+        private final long durationNanos;
+
+        /** Peak heap usage in bytes. */
+        private final long peakHeap;
+
+        /**
+         * @param files Number of checked files.
+         * @param reused Number of files with results reused from the cache.
+         * @param violations Number of violations.
+         * @param durationNanos Duration in nanoseconds.
+         * @param peakHeap Peak heap usage in bytes.
+         */
+        private Stats(long files, long reused, long violations, long durationNanos, long peakHeap) {
+            this.files = files;
+            this.reused = reused;
+            this.violations = violations;
+            this.durationNanos = durationNanos;
+            this.peakHeap = peakHeap;
+        }
+
+        /**
+         * @return Number of violations.
+         */
+        public long violations() {
+            return violations;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            double secs = durationNanos / 1e9;
+
+            return String.format("Checked %d files (%d from cache) in %.1f s (%.1f files/s), violations: %d, " +
+                "peak heap: %d MB", files, reused, secs, secs > 0 ? files / secs : 0.0, violations, peakHeap >> 20);
+        }
+    }
+
+    /**
+     * Factory of inspecting threads.
+     */
+    private static class NamedThreadFactory implements ThreadFactory {
+        /** Thread counter. */
+        private final AtomicInteger cnt = new AtomicInteger();
+
+        /** {@inheritDoc} */
+        @Override public Thread newThread(@NotNull Runnable r) {
+            Thread t = new Thread(r, "ignite-inspect-" + cnt.incrementAndGet());
+
+            t.setDaemon(true);
+
+            return t;
+        }
+    }
+}
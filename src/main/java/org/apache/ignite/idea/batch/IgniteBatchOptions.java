@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.batch;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Command line options of the headless inspection runner.
+ */
+public class IgniteBatchOptions {
+    /** Usage. */
+    public static final String USAGE = "Usage: idea igniteInspect <project-dir> [--output <file.sarif>] " +
+        "[--threads <n>] [--changed <file-list> | --since <git-rev>] [--cache <file> | --no-cache]";
+
+    /** Default name of the results cache file in the project directory. */
+    public static final String DFLT_CACHE_FILE = ".ignite-inspect-cache";
+
+    /** Project directory. */
+    private final Path projectDir;
+
+    /** SARIF report file. */
+    private Path output;
+
+    /** Number of inspecting threads. */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /** File with paths of changed files, one per line, or {@code null}. */
+    @Nullable private Path changed;
+
+    /** Git revision to check files changed since, or {@code null}. */
+    @Nullable private String since;
+
+    /** Results cache file or {@code null} if the cache is disabled. */
+    @Nullable private Path cache;
+
+    /**
+     * @param projectDir Project directory.
+     */
+    public IgniteBatchOptions(Path projectDir) {
+        this.projectDir = projectDir.toAbsolutePath().normalize();
+
+        output = this.projectDir.resolve("ignite-inspections.sarif");
+        cache = this.projectDir.resolve(DFLT_CACHE_FILE);
+    }
+
+    /**
+     * Parses command line arguments. The first argument is the command name.
+     *
+     * @param args Arguments.
+     * @return Options.
+     * @throws IllegalArgumentException If arguments are invalid.
+     */
+    public static IgniteBatchOptions parse(List<String> args) {
+        if (args.size() < 2)
+            throw new IllegalArgumentException(USAGE);
+
+        IgniteBatchOptions opts = new IgniteBatchOptions(Paths.get(args.get(1)));
+
+        for (int i = 2; i < args.size(); i++) {
+            String arg = args.get(i);
+
+            switch (arg) {
+                case "--output":
+                    opts.output = Paths.get(value(args, ++i, arg)).toAbsolutePath();
+
+                    break;
+
+                case "--threads":
+                    try {
+                        opts.threads = Integer.parseInt(value(args, ++i, arg));
+                    }
+                    catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid number of threads. " + USAGE, e);
+                    }
+
+                    if (opts.threads < 1)
+                        throw new IllegalArgumentException("Invalid number of threads. " + USAGE);
+
+                    break;
+
+                case "--changed":
+                    opts.changed = Paths.get(value(args, ++i, arg)).toAbsolutePath();
+
+                    break;
+
+                case "--since":
+                    opts.since = value(args, ++i, arg);
+
+                    break;
+
+                case "--cache":
+                    opts.cache = Paths.get(value(args, ++i, arg)).toAbsolutePath();
+
+                    break;
+
+                case "--no-cache":
+                    opts.cache = null;
+
+                    break;
+
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg + ". " + USAGE);
+            }
+        }
+
+        if (opts.changed != null && opts.since != null)
+            throw new IllegalArgumentException("Options --changed and --since are mutually exclusive. " + USAGE);
+
+        return opts;
+    }
+
+    /**
+     * @param args Arguments.
+     * @param idx Index of the option value.
+     * @param opt Option name.
+     * @return Option value.
+     */
+    private static String value(List<String> args, int idx, String opt) {
+        if (idx >= args.size())
+            throw new IllegalArgumentException("Missing value of " + opt + ". " + USAGE);
+
+        return args.get(idx);
+    }
+
+    /**
+     * @return Project directory.
+     */
+    public Path projectDir() {
+        return projectDir;
+    }
+
+    /**
+     * @return SARIF report file.
+     */
+    public Path output() {
+        return output;
+    }
+
+    /**
+     * @return Number of inspecting threads.
+     */
+    public int threads() {
+        return threads;
+    }
+
+    /**
+     * @return File with paths of changed files, one per line, relative to the project directory or absolute,
+     *      or {@code null}.
+     */
+    @Nullable public Path changed() {
+        return changed;
+    }
+
+    /**
+     * @return Git revision to check files changed since, or {@code null}.
+     */
+    @Nullable public String since() {
+        return since;
+    }
+
+    /**
+     * @return Whether only changed files are checked.
+     */
+    public boolean incremental() {
+        return changed != null || since != null;
+    }
+
+    /**
+     * @return Results cache file or {@code null} if the cache is disabled.
+     */
+    @Nullable public Path cache() {
+        return cache;
+    }
+}
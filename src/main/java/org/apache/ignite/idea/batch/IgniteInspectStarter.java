@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.batch;
+
+import java.util.List;
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.application.ex.ApplicationEx;
+import com.intellij.openapi.application.ex.ApplicationManagerEx;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Headless entry point that checks a source tree with Apache Ignite inspections, e.g. on CI:
+ * <pre>
+ * idea igniteInspect /path/to/ignite --output ignite.sarif --threads 8
+ * </pre>
+ * Exit code is {@code 0} if there are no violations, {@code 1} if there are, {@code 2} on invalid arguments and
+ * {@code 3} on failure.
+ */
+public class IgniteInspectStarter implements ApplicationStarter {
+    /** Command name. */
+    public static final String COMMAND = "igniteInspect";
+
+    /** Exit code: no violations. */
+    public static final int EXIT_OK = 0;
+
+    /** Exit code: violations found. */
+    public static final int EXIT_VIOLATIONS = 1;
+
+    /** Exit code: invalid arguments. */
+    public static final int EXIT_USAGE = 2;
+
+    /** Exit code: failure. */
+    public static final int EXIT_FAILURE = 3;
+
+    /** Logger. */
+    private static final Logger LOG = Logger.getInstance(IgniteInspectStarter.class);
+
+    /** {@inheritDoc} */
+    @SuppressWarnings("deprecation")
+    @Override public String getCommandName() {
+        return COMMAND;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getRequiredModality() {
+        return NOT_IN_EDT;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void main(@NotNull List<String> args) {
+        int code;
+
+        try {
+            code = run(IgniteBatchOptions.parse(args));
+        }
+        catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+
+            code = EXIT_USAGE;
+        }
+        catch (Throwable e) {
+            LOG.error("Failed to inspect project", e);
+
+            System.err.println("Failed to inspect project: " + e);
+
+            code = EXIT_FAILURE;
+        }
+
+        ApplicationManagerEx.getApplicationEx().exit(ApplicationEx.FORCE_EXIT | ApplicationEx.EXIT_CONFIRMED, code);
+    }
+
+    /**
+     * @param opts Options.
+     * @return Exit code.
+     * @throws Exception If failed.
+     */
+    private static int run(IgniteBatchOptions opts) throws Exception {
+        Project project = ProjectUtil.openOrImport(opts.projectDir(), null, false);
+
+        if (project == null) {
+            System.err.println("Failed to open project: " + opts.projectDir());
+
+            return EXIT_FAILURE;
+        }
+
+        DumbService.getInstance(project).waitForSmartMode();
+
+        IgniteBatchInspector.Stats stats = new IgniteBatchInspector(project, opts).run();
+
+        System.out.println(stats);
+        System.out.println("Report: " + opts.output());
+
+        return stats.violations() > 0 ? EXIT_VIOLATIONS : EXIT_OK;
+    }
+}
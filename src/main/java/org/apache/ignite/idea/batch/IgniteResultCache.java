@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.batch;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import com.intellij.openapi.diagnostic.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Persistent cache of file check results of the headless runner.
+ * <p>
+ * A key is a 64-bit prefix of SHA-256 over the rules digest, the file path and the file content, so a result is
+ * reused only for the very same file checked by the very same rules. The file is read into memory on open and
+ * looked up in place, without a mapping that would keep it from being replaced on save: a header, an index of
+ * {@code (key, offset, length)} entries sorted by key and a data area.
+ * <pre>
+ * int magic, int format version, int count
+ * count * (long key, int offset, int length)
+ * records
+ * </pre>
+ */
+public class IgniteResultCache {
+    /** Logger. */
+    private static final Logger LOG = Logger.getInstance(IgniteResultCache.class);
+
+    /** File magic. */
+    private static final int MAGIC = 0x49474943;
+
+    /** Format version. */
+    private static final int FORMAT_VER = 1;
+
+    /** Header size. */
+    private static final int HDR_SIZE = 12;
+
+    /** Index entry size. */
+    private static final int IDX_ENTRY_SIZE = 16;
+
+    /** Cache file. */
+    private final Path file;
+
+    /** Content of the cache file or {@code null} if there was no valid file. */
+    @Nullable private final ByteBuffer buf;
+
+    /** Number of entries in the file. */
+    private final int cnt;
+
+    /** Entries added in this run. */
+    private final ConcurrentMap<Long, byte[]> added = new ConcurrentHashMap<>();
+
+    /** Keys of the entries read from the file and used in this run. */
+    private final Set<Long> used = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param file Cache file.
+     * @param buf Content of the cache file.
+     * @param cnt Number of entries.
+     */
+    private IgniteResultCache(Path file, @Nullable ByteBuffer buf, int cnt) {
+        this.file = file;
+        this.buf = buf;
+        this.cnt = cnt;
+    }
+
+    /**
+     * Opens cache. Missing or corrupted file results in an empty cache.
+     *
+     * @param file Cache file.
+     * @return Cache.
+     */
+    public static IgniteResultCache open(@NotNull Path file) {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+
+            if (size < HDR_SIZE || size > Integer.MAX_VALUE)
+                throw new IOException("Invalid size: " + size);
+
+            ByteBuffer buf = ByteBuffer.allocate((int)size);
+
+            while (buf.hasRemaining()) {
+                if (ch.read(buf) < 0)
+                    throw new IOException("Unexpected end of file");
+            }
+
+            buf.flip();
+
+            int cnt = buf.getInt(8);
+
+            if (buf.getInt(0) != MAGIC || buf.getInt(4) != FORMAT_VER || cnt < 0 ||
+                HDR_SIZE + (long)cnt * IDX_ENTRY_SIZE > size)
+                throw new IOException("Invalid header");
+
+            return new IgniteResultCache(file, buf, cnt);
+        }
+        catch (NoSuchFileException e) {
+            return new IgniteResultCache(file, null, 0);
+        }
+        catch (IOException e) {
+            LOG.warn("Ignoring results cache [file=" + file + ", err=" + e.getMessage() + ']');
+
+            return new IgniteResultCache(file, null, 0);
+        }
+    }
+
+    /**
+     * Computes key of a file check result.
+     *
+     * @param salt Digest of everything the result depends on except the file, e.g. rules and their settings.
+     * @param path File path.
+     * @param content File content.
+     * @return Key.
+     */
+    public static long key(byte[] salt, String path, byte[] content) {
+        MessageDigest md;
+
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        md.update(salt);
+        md.update(path.getBytes(StandardCharsets.UTF_8));
+        md.update((byte)0);
+        md.update(content);
+
+        return ByteBuffer.wrap(md.digest()).getLong();
+    }
+
+    /**
+     * @param key Key.
+     * @return Cached violations or {@code null} if there is no result for the key.
+     */
+    @Nullable public List<IgniteViolation> get(long key) {
+        byte[] rec = added.get(key);
+
+        if (rec == null && buf != null) {
+            int idx = find(key);
+
+            if (idx >= 0) {
+                int pos = HDR_SIZE + idx * IDX_ENTRY_SIZE;
+
+                int off = buf.getInt(pos + 8);
+                int len = buf.getInt(pos + 12);
+
+                if (off < 0 || len < 0 || (long)off + len > buf.limit()) {
+                    LOG.warn("Ignoring corrupted results cache entry [file=" + file + ", key=" + key + ']');
+
+                    return null;
+                }
+
+                rec = new byte[len];
+
+                buf.get(off, rec);
+
+                used.add(key);
+            }
+        }
+
+        return rec != null ? decode(rec) : null;
+    }
+
+    /**
+     * @param key Key.
+     * @param violations Violations.
+     */
+    public void put(long key, List<IgniteViolation> violations) {
+        added.put(key, encode(violations));
+    }
+
+    /**
+     * @return Number of entries.
+     */
+    public int size() {
+        int res = added.size();
+
+        for (int i = 0; i < cnt; i++) {
+            if (!added.containsKey(buf.getLong(HDR_SIZE + i * IDX_ENTRY_SIZE)))
+                res++;
+        }
+
+        return res;
+    }
+
+    /**
+     * Writes the cache to disk.
+     *
+     * @param keepUnused Whether to keep entries not used in this run, e.g. results of files not checked by
+     *      an incremental run. Full runs drop them, which keeps the cache as large as the source tree.
+     * @throws IOException If failed.
+     */
+    public void save(boolean keepUnused) throws IOException {
+        TreeMap<Long, byte[]> entries = new TreeMap<>();
+
+        for (int i = 0; i < cnt; i++) {
+            int pos = HDR_SIZE + i * IDX_ENTRY_SIZE;
+
+            long key = buf.getLong(pos);
+
+            if (!keepUnused && !used.contains(key))
+                continue;
+
+            int off = buf.getInt(pos + 8);
+            int len = buf.getInt(pos + 12);
+
+            if (off < 0 || len < 0 || (long)off + len > buf.limit())
+                continue;
+
+            byte[] rec = new byte[len];
+
+            buf.get(off, rec);
+
+            entries.put(key, rec);
+        }
+
+        entries.putAll(added);
+
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VER);
+            out.writeInt(entries.size());
+
+            long off = HDR_SIZE + (long)entries.size() * IDX_ENTRY_SIZE;
+
+            for (Map.Entry<Long, byte[]> e : entries.entrySet()) {
+                if (off + e.getValue().length > Integer.MAX_VALUE)
+                    throw new IOException("Results cache is too large: " + file);
+
+                out.writeLong(e.getKey());
+                out.writeInt((int)off);
+                out.writeInt(e.getValue().length);
+
+                off += e.getValue().length;
+            }
+
+            for (byte[] rec : entries.values())
+                out.write(rec);
+        }
+
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * @param key Key.
+     * @return Index of the entry or negative value if there is no such key.
+     */
+    private int find(long key) {
+        int lo = 0;
+        int hi = cnt - 1;
+
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+
+            long midKey = buf.getLong(HDR_SIZE + mid * IDX_ENTRY_SIZE);
+
+            if (midKey < key)
+                lo = mid + 1;
+            else if (midKey > key)
+                hi = mid - 1;
+            else
+                return mid;
+        }
+
+        return -1;
+    }
+
+    /**
+     * @param violations Violations.
+     * @return Record.
+     */
+    private static byte[] encode(List<IgniteViolation> violations) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + violations.size() * 64);
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(violations.size());
+
+            for (IgniteViolation v : violations) {
+                out.writeUTF(v.ruleId());
+                out.writeUTF(v.level());
+                out.writeUTF(v.message());
+                out.writeInt(v.line());
+                out.writeInt(v.column());
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param rec Record.
+     * @return Violations.
+     */
+    private static List<IgniteViolation> decode(byte[] rec) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(rec))) {
+            int n = in.readInt();
+
+            if (n == 0)
+                return Collections.emptyList();
+
+            List<IgniteViolation> res = new ArrayList<>(n);
+
+            for (int i = 0; i < n; i++)
+                res.add(new IgniteViolation(in.readUTF(), in.readUTF(), in.readUTF(), in.readInt(), in.readInt()));
+
+            return res;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.batch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * Streaming writer of a SARIF 2.1.0 log with a single run.
+ * <p>
+ * Results are written as soon as they are reported, so memory does not depend on the number of violations.
+ * The writer is thread safe.
+ */
+public class IgniteSarifWriter implements Closeable {
+    /** Output. */
+    private final Writer out;
+
+    /** Whether at least one result was written. */
+    private boolean hasResults;
+
+    /** Number of written results. */
+    private long cnt;
+
+    /**
+     * Writes the log header and the rules of the run.
+     *
+     * @param out Output.
+     * @param toolName Tool name.
+     * @param toolVer Tool version.
+     * @param rules Map from rule ids to rule descriptions.
+     * @throws IOException If failed.
+     */
+    public IgniteSarifWriter(Writer out, String toolName, String toolVer, Map<String, String> rules)
+        throws IOException {
+        this.out = out;
+
+        out.write("{\n  \"$schema\": \"https://json.schemastore.org/sarif-2.1.0.json\",\n");
+        out.write("  \"version\": \"2.1.0\",\n");
+        out.write("  \"runs\": [{\n    \"tool\": {\"driver\": {\"name\": ");
+        string(toolName);
+        out.write(", \"version\": ");
+        string(toolVer);
+        out.write(", \"rules\": [");
+
+        boolean first = true;
+
+        for (Map.Entry<String, String> rule : rules.entrySet()) {
+            out.write(first ? "\n      " : ",\n      ");
+            out.write("{\"id\": ");
+            string(rule.getKey());
+            out.write(", \"shortDescription\": {\"text\": ");
+            string(rule.getValue());
+            out.write("}}");
+
+            first = false;
+        }
+
+        out.write("]}},\n    \"results\": [");
+    }
+
+    /**
+     * Writes a result.
+     *
+     * @param ruleId Rule id.
+     * @param level SARIF level: {@code error}, {@code warning} or {@code note}.
+     * @param msg Message.
+     * @param uri File URI relative to the project directory.
+     * @param line Line, 1-based.
+     * @param col Column, 1-based.
+     * @throws IOException If failed.
+     */
+    public synchronized void result(String ruleId, String level, String msg, String uri, int line, int col)
+        throws IOException {
+        out.write(hasResults ? ",\n      " : "\n      ");
+        out.write("{\"ruleId\": ");
+        string(ruleId);
+        out.write(", \"level\": ");
+        string(level);
+        out.write(", \"message\": {\"text\": ");
+        string(msg);
+        out.write("}, \"locations\": [{\"physicalLocation\": {\"artifactLocation\": {\"uri\": ");
+        string(uri);
+        out.write("}, \"region\": {\"startLine\": ");
+        out.write(Integer.toString(line));
+        out.write(", \"startColumn\": ");
+        out.write(Integer.toString(col));
+        out.write("}}}]}");
+
+        hasResults = true;
+        cnt++;
+    }
+
+    /**
+     * @return Number of written results.
+     */
+    public synchronized long count() {
+        return cnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override public synchronized void close() throws IOException {
+        out.write(hasResults ? "\n    ]\n  }]\n}\n" : "]\n  }]\n}\n");
+
+        out.close();
+    }
+
+    /**
+     * Writes JSON string.
+     *
+     * @param s String.
+     * @throws IOException If failed.
+     */
+    private void string(String s) throws IOException {
+        out.write('"');
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+
+                    break;
+
+                case '\\':
+                    out.write("\\\\");
+
+                    break;
+
+                case '\n':
+                    out.write("\\n");
+
+                    break;
+
+                case '\r':
+                    out.write("\\r");
+
+                    break;
+
+                case '\t':
+                    out.write("\\t");
+
+                    break;
+
+                default:
+                    if (c < 0x20)
+                        out.write(String.format("\\u%04x", (int)c));
+                    else
+                        out.write(c);
+            }
+        }
+
+        out.write('"');
+    }
+}
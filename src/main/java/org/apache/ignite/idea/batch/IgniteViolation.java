@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.batch;
+
+import java.util.Objects;
+
+/**
+ * Violation found in a file by the headless runner.
+ */
+public final class IgniteViolation {
+    /** Rule id. */
+    private final String ruleId;
+
+    /** SARIF level. */
+    private final String level;
+
+    /** Message. */
+    private final String msg;
+
+    /** Line, 1-based. */
+    private final int line;
+
+    /** Column, 1-based. */
+    private final int col;
+
+    /**
+     * @param ruleId Rule id.
+     * @param level SARIF level.
+     * @param msg Message.
+     * @param line Line, 1-based.
+     * @param col Column, 1-based.
+     */
+    public IgniteViolation(String ruleId, String level, String msg, int line, int col) {
+        this.ruleId = ruleId;
+        this.level = level;
+        this.msg = msg;
+        this.line = line;
+        this.col = col;
+    }
+
+    /**
+     * @return Rule id.
+     */
+    public String ruleId() {
+        return ruleId;
+    }
+
+    /**
+     * @return SARIF level.
+     */
+    public String level() {
+        return level;
+    }
+
+    /**
+     * @return Message.
+     */
+    public String message() {
+        return msg;
+    }
+
+    /**
+     * @return Line, 1-based.
+     */
+    public int line() {
+        return line;
+    }
+
+    /**
+     * @return Column, 1-based.
+     */
+    public int column() {
+        return col;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof IgniteViolation))
+            return false;
+
+        IgniteViolation v = (IgniteViolation)o;
+
+        return line == v.line && col == v.col && ruleId.equals(v.ruleId) && level.equals(v.level) && msg.equals(v.msg);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int hashCode() {
+        return Objects.hash(ruleId, level, msg, line, col);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return "IgniteViolation [ruleId=" + ruleId + ", level=" + level + ", line=" + line + ", col=" + col +
+            ", msg=" + msg + ']';
+    }
+}
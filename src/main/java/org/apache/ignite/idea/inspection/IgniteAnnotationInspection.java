@@ -18,13 +18,18 @@
 package org.apache.ignite.idea.inspection;
 
 import com.intellij.codeInspection.*;
+import com.intellij.openapi.project.*;
+import com.intellij.openapi.util.text.*;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.*;
 
+import static org.apache.ignite.idea.util.IgniteLayoutUtils.*;
+
 /**
- *
+ * Checks placement of method annotations. The check needs no indices: while the project is being indexed, annotations
+ * are recognized by their reference text and the imports of the file instead of being resolved.
  */
-public class IgniteAnnotationInspection extends AbstractBaseJavaLocalInspectionTool {
+public class IgniteAnnotationInspection extends IgniteJavaInspectionTool implements DumbAware {
 
     /** {@inheritDoc} */
     @Nls
@@ -35,6 +40,11 @@ public class IgniteAnnotationInspection extends AbstractBaseJavaLocalInspectionT
     /** {@inheritDoc} */
     @Deprecated
     @NotNull @Override public PsiElementVisitor buildVisitor(@NotNull final ProblemsHolder holder, boolean isOnTheFly) {
+        if (IgniteStyleInspection.isDelegated(holder))
+            return PsiElementVisitor.EMPTY_VISITOR;
+
+        final boolean dumb = DumbService.isDumb(holder.getProject());
+
         return new JavaElementVisitor() {
             @Override public void visitMethod(PsiMethod method) {
                 super.visitMethod(method);
@@ -50,14 +60,12 @@ public class IgniteAnnotationInspection extends AbstractBaseJavaLocalInspectionT
 
                     PsiAnnotation ann = (PsiAnnotation)e;
 
-                    String name = ann.getQualifiedName();
-
-                    if (Nullable.class.getName().equals(name))
+                    if (isAnnotation(ann, Nullable.class.getName(), dumb))
                         checkSameLineWithMethodName(ann);
-                    else if (NotNull.class.getName().equals(name)) {
+                    else if (isAnnotation(ann, NotNull.class.getName(), dumb)) {
                         // No-op.
                     }
-                    else if (Override.class.getName().equals(name))
+                    else if (isAnnotation(ann, Override.class.getName(), dumb))
                         checkSameLineWithMethodName(ann);
                     else {
                         if (!hasLineBreak(ann, true) || !hasLineBreak(ann, false)) {
@@ -68,42 +76,75 @@ public class IgniteAnnotationInspection extends AbstractBaseJavaLocalInspectionT
                 }
             }
 
-            private boolean hasLineBreak(@NotNull PsiElement element, boolean forward) {
-                PsiElement e = element;
+            private void checkSameLineWithMethodName(@NotNull PsiAnnotation ann) {
+                if (ann != null && hasLineBreak(ann, true)) {
+                    holder.registerProblem(ann, "Annotation @" + ann.getNameReferenceElement().getReferenceName()
+                        + " must be on the same line with the method name");
+                }
+            }
+        };
+    }
 
-                while (true) {
-                    PsiElement next = forward ? e.getNextSibling() : e.getPrevSibling();
+    /**
+     * Checks whether an annotation refers to the annotation type with the given name.
+     *
+     * @param ann Annotation.
+     * @param qualifiedName Qualified name of the annotation type.
+     * @param dumb Whether indices are not available and the annotation must not be resolved.
+     * @return {@code true} if the annotation refers to the type.
+     */
+    public static boolean isAnnotation(@NotNull PsiAnnotation ann, @NotNull String qualifiedName, boolean dumb) {
+        if (!dumb)
+            return qualifiedName.equals(ann.getQualifiedName());
 
-                    if (next == null) {
-                        e = e.getParent();
+        PsiJavaCodeReferenceElement ref = ann.getNameReferenceElement();
 
-                        if (e == null)
-                            return true;
+        if (ref == null)
+            return false;
 
-                        continue;
-                    }
+        if (!StringUtil.getShortName(qualifiedName).equals(ref.getReferenceName()))
+            return false;
 
-                    e = next;
+        String pkg = StringUtil.getPackageName(qualifiedName);
 
-                    if (e.getTextLength() == 0)
-                        continue;
+        // Fully qualified reference.
+        if (ref.getQualifier() instanceof PsiJavaCodeReferenceElement)
+            return pkg.equals(referenceText((PsiJavaCodeReferenceElement)ref.getQualifier()));
 
-                    if (e instanceof PsiWhiteSpace || e instanceof PsiComment) {
-                        if (e.textContains('\n'))
-                            return true;
-                    }
-                    else {
-                        return false;
-                    }
-                }
-            }
+        if ("java.lang".equals(pkg))
+            return true;
 
-            private void checkSameLineWithMethodName(@NotNull PsiAnnotation ann) {
-                if (ann != null && hasLineBreak(ann, true)) {
-                    holder.registerProblem(ann, "Annotation @" + ann.getNameReferenceElement().getReferenceName()
-                        + " must be on the same line with the method name");
-                }
-            }
-        };
+        PsiFile file = ann.getContainingFile();
+
+        if (!(file instanceof PsiJavaFile))
+            return false;
+
+        if (pkg.equals(((PsiJavaFile)file).getPackageName()))
+            return true;
+
+        PsiImportList imports = ((PsiJavaFile)file).getImportList();
+
+        if (imports == null)
+            return false;
+
+        for (PsiImportStatement imp : imports.getImportStatements()) {
+            if (imp.isOnDemand() ? pkg.equals(imp.getQualifiedName()) : qualifiedName.equals(imp.getQualifiedName()))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param ref Reference.
+     * @return Reference text without whitespaces and comments.
+     */
+    private static String referenceText(PsiJavaCodeReferenceElement ref) {
+        PsiElement qualifier = ref.getQualifier();
+
+        if (qualifier instanceof PsiJavaCodeReferenceElement)
+            return referenceText((PsiJavaCodeReferenceElement)qualifier) + '.' + ref.getReferenceName();
+
+        return ref.getReferenceName();
     }
 }
@@ -25,10 +25,14 @@ import com.intellij.psi.impl.source.tree.*;
 import com.intellij.psi.tree.*;
 import org.jetbrains.annotations.*;
 
+import static org.apache.ignite.idea.util.IgniteLayoutUtils.*;
+
 /**
- *
+ * Reports braces around single line bodies. Needs no indices, so it also runs while the project is being indexed.
  */
-public class IgniteBracketInspection extends AbstractBaseJavaLocalInspectionTool {
+public class IgniteBracketInspection extends IgniteJavaInspectionTool implements DumbAware {
+    /** Fix shared by all problems. */
+    private static final LocalQuickFix REMOVE_BRACES = new RemoveBracesFix();
 
     /** {@inheritDoc} */
     @Nls
@@ -38,66 +42,21 @@ public class IgniteBracketInspection extends AbstractBaseJavaLocalInspectionTool
 
     /** {@inheritDoc} */
     @NotNull @Override public PsiElementVisitor buildVisitor(@NotNull final ProblemsHolder holder, boolean isOnTheFly) {
-        return new JavaElementVisitor() {
+        if (IgniteStyleInspection.isDelegated(holder))
+            return PsiElementVisitor.EMPTY_VISITOR;
 
-            private void checkStatement(@Nullable final PsiStatement branch) {
-                if (branch == null)
-                    return;
+        return new JavaElementVisitor() {
 
+            private void checkStatement(@Nullable PsiStatement branch) {
                 if (!(branch instanceof PsiBlockStatement))
                     return;
 
-                PsiCodeBlock codeBlock = ((PsiBlockStatement)branch).getCodeBlock();
-
-                PsiStatement statement = null;
-
-                for (PsiElement e = codeBlock.getFirstChild(); e != null; e = e.getNextSibling()) {
-                    if (e instanceof PsiWhiteSpace)
-                        continue;
-
-                    if (e instanceof LeafPsiElement) {
-                        IElementType tokenType = ((LeafPsiElement)e).getElementType();
-
-                        if (tokenType == JavaTokenType.LBRACE || tokenType == JavaTokenType.RBRACE)
-                            continue;
-                    }
-
-                    if (e instanceof PsiStatement) {
-                        if (statement != null)
-                            return;
-
-                        statement = (PsiStatement)e;
-
-                        continue;
-                    }
+                PsiStatement statement = singleStatement((PsiBlockStatement)branch);
 
+                if (statement == null || !isSingleLine(statement))
                     return;
-                }
-
-                if (statement == null || statement.textContains('\n'))
-                    return;
-
-                final PsiStatement finalStatement = statement;
 
-                holder.registerProblem(branch, getDisplayName(), new LocalQuickFix() {
-                    @NotNull @Override public String getName() {
-                        return "Remove unnecessary '{ }'";
-                    }
-
-                    @NotNull @Override public String getFamilyName() {
-                        return getName();
-                    }
-
-                    @Override public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
-                        if (!branch.isValid() || !finalStatement.isValid())
-                            return;
-
-                        if (!FileModificationService.getInstance().preparePsiElementForWrite(branch))
-                            return;
-
-                        branch.replace(finalStatement);
-                    }
-                });
+                holder.registerProblem(branch, getDisplayName(), REMOVE_BRACES);
             }
 
             @Override public void visitIfStatement(PsiIfStatement statement) {
@@ -118,4 +77,68 @@ public class IgniteBracketInspection extends AbstractBaseJavaLocalInspectionTool
             }
         };
     }
+
+    /**
+     * @param branch Block.
+     * @return The only statement of the block or {@code null} if the block has no statements, several ones or
+     *      comments.
+     */
+    @Nullable private static PsiStatement singleStatement(PsiBlockStatement branch) {
+        PsiCodeBlock codeBlock = branch.getCodeBlock();
+
+        PsiStatement statement = null;
+
+        for (PsiElement e = codeBlock.getFirstChild(); e != null; e = e.getNextSibling()) {
+            if (e instanceof PsiWhiteSpace)
+                continue;
+
+            if (e instanceof LeafPsiElement) {
+                IElementType tokenType = ((LeafPsiElement)e).getElementType();
+
+                if (tokenType == JavaTokenType.LBRACE || tokenType == JavaTokenType.RBRACE)
+                    continue;
+            }
+
+            if (e instanceof PsiStatement) {
+                if (statement != null)
+                    return null;
+
+                statement = (PsiStatement)e;
+
+                continue;
+            }
+
+            return null;
+        }
+
+        return statement;
+    }
+
+    /**
+     * Replaces the block of a problem with its only statement.
+     */
+    private static class RemoveBracesFix implements LocalQuickFix {
+        /** {@inheritDoc} */
+        @NotNull @Override public String getFamilyName() {
+            return "Remove unnecessary '{ }'";
+        }
+
+        /** {@inheritDoc} */
+        @Override public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiElement branch = descriptor.getPsiElement();
+
+            if (!(branch instanceof PsiBlockStatement))
+                return;
+
+            PsiStatement statement = singleStatement((PsiBlockStatement)branch);
+
+            if (statement == null)
+                return;
+
+            if (!FileModificationService.getInstance().preparePsiElementForWrite(branch))
+                return;
+
+            branch.replace(statement);
+        }
+    }
 }
@@ -24,10 +24,16 @@ import com.intellij.psi.*;
 import com.intellij.psi.impl.source.tree.*;
 import org.jetbrains.annotations.*;
 
+import static org.apache.ignite.idea.util.IgniteLayoutUtils.*;
+
 /**
- *
+ * Reports empty lines before the first documented member of a top level class. Looks at whitespace
+ * only and keeps working during indexing.
  */
-public class IgniteEmptyLineInspection extends AbstractBaseJavaLocalInspectionTool {
+public class IgniteEmptyLineInspection extends IgniteJavaInspectionTool implements DumbAware {
+    /** Fix shared by all problems. */
+    private static final LocalQuickFix REMOVE_LINE_BREAK = new RemoveLineBreakFix();
+
     /** {@inheritDoc} */
     @Nls @NotNull @Override public String getDisplayName() {
         return "Illegal empty line before first class element";
@@ -36,10 +42,13 @@ public class IgniteEmptyLineInspection extends AbstractBaseJavaLocalInspectionTo
     /** {@inheritDoc} */
     @NotNull @Override public PsiElementVisitor buildVisitor(@NotNull final ProblemsHolder holder,
         boolean isOnTheFly) {
+        if (IgniteStyleInspection.isDelegated(holder))
+            return PsiElementVisitor.EMPTY_VISITOR;
+
         return new JavaElementVisitor() {
 
             private void checkMember(PsiMember member) {
-                final PsiElement prevWhileSpace = member.getPrevSibling();
+                PsiElement prevWhileSpace = member.getPrevSibling();
 
                 if (!(prevWhileSpace instanceof PsiWhiteSpace))
                     return;
@@ -58,40 +67,8 @@ public class IgniteEmptyLineInspection extends AbstractBaseJavaLocalInspectionTo
                 if (!(containingClass.getParent() instanceof PsiFile))
                     return;
 
-                int breakLineCnt = 0;
-
-                String spaceText = prevWhileSpace.getText();
-
-                for (int i = 0; i < spaceText.length(); i++) {
-                    if (spaceText.charAt(i) == '\n')
-                        breakLineCnt++;
-                }
-
-                if (breakLineCnt > 1) {
-                    holder.registerProblem(prevWhileSpace, getDisplayName(), new LocalQuickFix() {
-                        @NotNull @Override public String getName() {
-                            return "Remove Illegal line break";
-                        }
-
-                        @NotNull @Override public String getFamilyName() {
-                            return getName();
-                        }
-
-                        @Override public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
-                            if (!prevWhileSpace.isValid())
-                                return;
-
-                            if (!FileModificationService.getInstance().preparePsiElementForWrite(prevWhileSpace))
-                                return;
-
-                            LeafElement newWhileSpace = Factory.createSingleLeafElement(JavaTokenType.WHITE_SPACE, "\n",
-                                null, prevWhileSpace.getManager());
-
-                            prevWhileSpace.getNode().getTreeParent().replaceChild(prevWhileSpace.getNode(),
-                                newWhileSpace);
-                        }
-                    });
-                }
+                if (blankLinesBetween(sibling, member) > 0)
+                    holder.registerProblem(prevWhileSpace, getDisplayName(), REMOVE_LINE_BREAK);
             }
 
             @Override public void visitField(PsiField field) {
@@ -105,4 +82,30 @@ public class IgniteEmptyLineInspection extends AbstractBaseJavaLocalInspectionTo
             }
         };
     }
+
+    /**
+     * Replaces the whitespace of a problem with a single line break.
+     */
+    private static class RemoveLineBreakFix implements LocalQuickFix {
+        /** {@inheritDoc} */
+        @NotNull @Override public String getFamilyName() {
+            return "Remove Illegal line break";
+        }
+
+        /** {@inheritDoc} */
+        @Override public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiElement prevWhileSpace = descriptor.getPsiElement();
+
+            if (!(prevWhileSpace instanceof PsiWhiteSpace))
+                return;
+
+            if (!FileModificationService.getInstance().preparePsiElementForWrite(prevWhileSpace))
+                return;
+
+            LeafElement newWhileSpace = Factory.createSingleLeafElement(JavaTokenType.WHITE_SPACE, "\n",
+                null, prevWhileSpace.getManager());
+
+            prevWhileSpace.getNode().getTreeParent().replaceChild(prevWhileSpace.getNode(), newWhileSpace);
+        }
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection;
+
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.openapi.options.Configurable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.ui.JBIntSpinner;
+import com.intellij.util.ui.FormBuilder;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Page of {@link IgniteInspectionSettings} in Settings | Tools.
+ */
+public class IgniteInspectionConfigurable implements Configurable {
+    /** Minimal length of a file with deferred checks. */
+    private JBIntSpinner cheapModeMinLength;
+
+    /** Idle delay. */
+    private JBIntSpinner idleDelayMs;
+
+    /** Number of members without comments reported one by one. */
+    private JBIntSpinner maxCommentProblems;
+
+    /** {@inheritDoc} */
+    @Nls @Override public String getDisplayName() {
+        return "Apache Ignite Inspections";
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public JComponent createComponent() {
+        cheapModeMinLength = new JBIntSpinner(0, 0, Integer.MAX_VALUE, 1_000);
+        idleDelayMs = new JBIntSpinner(0, 0, 60_000, 100);
+        maxCommentProblems = new JBIntSpinner(0, 0, Integer.MAX_VALUE, 100);
+
+        return FormBuilder.createFormBuilder()
+            .addLabeledComponent("Defer type and super method checks while editing files longer than (chars):",
+                cheapModeMinLength)
+            .addLabeledComponent("Check edited files fully after idle time (ms, 0 to check on every change):",
+                idleDelayMs)
+            .addLabeledComponent("Report one problem for files with more undocumented members than (0 for no limit):",
+                maxCommentProblems)
+            .addComponentFillVertically(new JPanel(), 0)
+            .getPanel();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isModified() {
+        IgniteInspectionSettings.Options opts = IgniteInspectionSettings.getInstance().getState();
+
+        return cheapModeMinLength.getNumber() != opts.cheapModeMinLength ||
+            idleDelayMs.getNumber() != opts.idleDelayMs ||
+            maxCommentProblems.getNumber() != opts.maxCommentProblems;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void apply() {
+        IgniteInspectionSettings.Options opts = new IgniteInspectionSettings.Options();
+
+        opts.cheapModeMinLength = cheapModeMinLength.getNumber();
+        opts.idleDelayMs = idleDelayMs.getNumber();
+        opts.maxCommentProblems = maxCommentProblems.getNumber();
+
+        IgniteInspectionSettings.getInstance().loadState(opts);
+
+        for (Project project : ProjectManager.getInstance().getOpenProjects())
+            DaemonCodeAnalyzer.getInstance(project).restart();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void reset() {
+        IgniteInspectionSettings.Options opts = IgniteInspectionSettings.getInstance().getState();
+
+        cheapModeMinLength.setNumber(opts.cheapModeMinLength);
+        idleDelayMs.setNumber(opts.idleDelayMs);
+        maxCommentProblems.setNumber(opts.maxCommentProblems);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void disposeUIResources() {
+        cheapModeMinLength = null;
+        idleDelayMs = null;
+        maxCommentProblems = null;
+    }
+}
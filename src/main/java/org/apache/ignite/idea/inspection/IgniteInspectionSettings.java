@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.EditorFactory;
+import com.intellij.openapi.editor.event.DocumentEvent;
+import com.intellij.openapi.editor.event.DocumentListener;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.util.Alarm;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Settings of the plugin inspections that control the cost of highlighting while typing.
+ * <p>
+ * Rules split their checks into cheap syntactic ones and resolve-heavy ones, e.g. type inference or super method
+ * search. Resolve-heavy checks of a file at least {@link Options#cheapModeMinLength} characters long are skipped
+ * while the file is being edited and run once it was not changed for {@link Options#idleDelayMs}: highlighting of the
+ * file is restarted then. Batch inspection and checks of files that are not being edited, e.g. before commit, are
+ * full.
+ * <p>
+ * Files with many problems of a rule may be reported with a single problem, see
+ * {@link Options#maxCommentProblems}.
+ */
+@State(name = "IgniteInspectionSettings", storages = @Storage("ignite-inspections.xml"))
+public class IgniteInspectionSettings
+    implements PersistentStateComponent<IgniteInspectionSettings.Options>, Disposable {
+    /** Time of the last change of a document, {@link System#nanoTime()}. */
+    private static final Key<Long> LAST_CHANGE = Key.create("IgniteInspectionSettings.lastChange");
+
+    /** Current options. */
+    private volatile Options opts = new Options();
+
+    /** Edited documents to highlight again once they are idle, accessed in EDT. */
+    private final Set<Document> pending = new LinkedHashSet<>();
+
+    /** Idle pass scheduler. */
+    private final Alarm alarm = new Alarm(Alarm.ThreadToUse.SWING_THREAD, this);
+
+    /**
+     * Creates settings and starts tracking of document changes.
+     */
+    public IgniteInspectionSettings() {
+        EditorFactory.getInstance().getEventMulticaster().addDocumentListener(new DocumentListener() {
+            /** {@inheritDoc} */
+            @Override public void documentChanged(@NotNull DocumentEvent evt) {
+                changed(evt.getDocument());
+            }
+        }, this);
+    }
+
+    /**
+     * @return Settings.
+     */
+    public static IgniteInspectionSettings getInstance() {
+        return ApplicationManager.getApplication().getService(IgniteInspectionSettings.class);
+    }
+
+    /** {@inheritDoc} */
+    @NotNull @Override public Options getState() {
+        return opts;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void loadState(@NotNull Options opts) {
+        this.opts = opts;
+    }
+
+    /**
+     * Checks whether resolve-heavy checks should run on a file.
+     *
+     * @param file File.
+     * @param isOnTheFly Whether the file is highlighted in an editor.
+     * @return {@code true} if all checks should run, {@code false} if only the cheap ones.
+     */
+    public boolean isFullCheck(@NotNull PsiFile file, boolean isOnTheFly) {
+        Options s = opts;
+
+        if (!isOnTheFly || s.idleDelayMs <= 0 || file.getTextLength() < s.cheapModeMinLength)
+            return true;
+
+        Document doc = PsiDocumentManager.getInstance(file.getProject()).getCachedDocument(file);
+
+        return doc == null || idleMillis(doc) >= s.idleDelayMs;
+    }
+
+    /**
+     * @param doc Document.
+     * @return Time since the last change of the document in milliseconds, {@link Long#MAX_VALUE} if it was not
+     *      changed.
+     */
+    private static long idleMillis(Document doc) {
+        Long changed = doc.getUserData(LAST_CHANGE);
+
+        return changed == null ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - changed);
+    }
+
+    /**
+     * @param doc Changed document.
+     */
+    private void changed(Document doc) {
+        Options s = opts;
+
+        if (s.idleDelayMs <= 0 || doc.getTextLength() < s.cheapModeMinLength ||
+            FileDocumentManager.getInstance().getFile(doc) == null)
+            return;
+
+        doc.putUserData(LAST_CHANGE, System.nanoTime());
+
+        pending.add(doc);
+
+        alarm.cancelAllRequests();
+        alarm.addRequest(this::idlePass, s.idleDelayMs);
+    }
+
+    /**
+     * Restarts highlighting of the documents that are idle long enough, reschedules itself for the rest.
+     */
+    private void idlePass() {
+        int delay = opts.idleDelayMs;
+
+        long next = Long.MAX_VALUE;
+
+        for (Iterator<Document> it = pending.iterator(); it.hasNext(); ) {
+            Document doc = it.next();
+
+            long idle = idleMillis(doc);
+
+            if (idle < delay) {
+                next = Math.min(next, delay - idle);
+
+                continue;
+            }
+
+            it.remove();
+
+            for (Project project : ProjectManager.getInstance().getOpenProjects()) {
+                if (project.isDisposed())
+                    continue;
+
+                PsiFile file = PsiDocumentManager.getInstance(project).getPsiFile(doc);
+
+                if (file instanceof PsiJavaFile)
+                    DaemonCodeAnalyzer.getInstance(project).restart(file);
+            }
+        }
+
+        if (next != Long.MAX_VALUE)
+            alarm.addRequest(this::idlePass, next);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void dispose() {
+        pending.clear();
+    }
+
+    /**
+     * Persistent options.
+     */
+    public static class Options {
+        /** Minimal length of a file, in characters, for which resolve-heavy checks are deferred while editing. */
+        public int cheapModeMinLength = 20_000;
+
+        /** Time without changes after which an edited file is fully checked, in milliseconds, 0 to always check. */
+        public int idleDelayMs = 1_500;
+
+        /** Number of members without comments in an edited file above which they are reported as one problem. */
+        public int maxCommentProblems = 300;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection;
+
+import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.intellij.codeInspection.LocalInspectionToolSession;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.psi.PsiElementVisitor;
+import org.apache.ignite.idea.metrics.IgniteInspectionMetrics;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Base class of the Apache Ignite Java rule inspections.
+ * <p>
+ * Visitors of the rules are timed by {@link IgniteInspectionMetrics} while recording or the watchdog of slow files is
+ * on, both when a rule runs standalone and when it is dispatched by {@link IgniteStyleInspection}.
+ * <p>
+ * Rules with resolve-heavy checks run them only if {@link #isFullCheck(ProblemsHolder, boolean)} allows.
+ */
+public abstract class IgniteJavaInspectionTool extends AbstractBaseJavaLocalInspectionTool {
+    /** {@inheritDoc} */
+    @NotNull @Override public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly,
+        @NotNull LocalInspectionToolSession ses) {
+        PsiElementVisitor visitor = super.buildVisitor(holder, isOnTheFly, ses);
+
+        if (!IgniteInspectionMetrics.isInstrumented())
+            return visitor;
+
+        return IgniteInspectionMetrics.getInstance().instrument(getShortName(), ses, visitor);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void inspectionFinished(@NotNull LocalInspectionToolSession ses,
+        @NotNull ProblemsHolder problemsHolder) {
+        super.inspectionFinished(ses, problemsHolder);
+
+        IgniteInspectionMetrics.getInstance().finished(getShortName(), ses);
+    }
+
+    /**
+     * Checks whether resolve-heavy checks should run on the file of a holder, see {@link IgniteInspectionSettings}.
+     *
+     * @param holder Problems holder.
+     * @param isOnTheFly Whether the file is highlighted in an editor.
+     * @return {@code true} if all checks should run, {@code false} if only the cheap ones.
+     */
+    protected static boolean isFullCheck(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+        return IgniteInspectionSettings.getInstance().isFullCheck(holder.getFile(), isOnTheFly);
+    }
+}
@@ -29,7 +29,9 @@ import org.jetbrains.annotations.*;
 /**
  *
  */
-public class IgnitePlublicInterfaceMethodsInspection extends AbstractBaseJavaLocalInspectionTool {
+public class IgnitePlublicInterfaceMethodsInspection extends IgniteJavaInspectionTool {
+    /** Fix shared by all problems. */
+    private static final LocalQuickFix ADD_PUBLIC = new AddPublicFix();
 
     /** {@inheritDoc} */
     @Nls
@@ -40,6 +42,9 @@ public class IgnitePlublicInterfaceMethodsInspection extends AbstractBaseJavaLoc
     /** {@inheritDoc} */
     @Deprecated
     @NotNull @Override public PsiElementVisitor buildVisitor(@NotNull final ProblemsHolder holder, boolean isOnTheFly) {
+        if (IgniteStyleInspection.isDelegated(holder))
+            return PsiElementVisitor.EMPTY_VISITOR;
+
         return new JavaElementVisitor() {
             @Override public void visitField(PsiField field) {
                 super.visitField(field);
@@ -53,13 +58,13 @@ public class IgnitePlublicInterfaceMethodsInspection extends AbstractBaseJavaLoc
                 checkMember(method);
             }
 
-            private void checkMember(final PsiMember member) {
+            private void checkMember(PsiMember member) {
                 PsiClass cls = member.getContainingClass();
 
                 if (!cls.isInterface() || cls.isAnnotationType() || cls.getContainingClass() != null)
                     return;
 
-                final PsiModifierList modifierList = member.getModifierList();
+                PsiModifierList modifierList = member.getModifierList();
 
                 if (modifierList == null)
                     return;
@@ -68,75 +73,51 @@ public class IgnitePlublicInterfaceMethodsInspection extends AbstractBaseJavaLoc
                     return;
 
                 holder.registerProblem(((PsiNameIdentifierOwner)member).getNameIdentifier(),
-                    "\"public\" modifier must be present in interface methods/fields",
-                    new LocalQuickFix() {
-                    @NotNull @Override public String getName() {
-                        return "Add \"public\"";
-                    }
-
-                    @NotNull @Override public String getFamilyName() {
-                        return getName();
-                    }
-
-                    @Override public void applyFix(@NotNull Project project,
-                        @NotNull ProblemDescriptor descriptor) {
-                        if (!FileModificationService.getInstance().preparePsiElementForWrite(modifierList))
-                            return;
-
-                        if (member instanceof PsiMethod)
-                            CodeEditUtil.markToReformat(((PsiMethod)member).getParameterList().getNode(), true);
-
-                        modifierList.setModifierProperty(PsiModifier.PRIVATE, false);
-                        modifierList.setModifierProperty(PsiModifier.PROTECTED, false);
-
-                        IElementType type = JavaTokenType.PUBLIC_KEYWORD;
-                        CompositeElement treeElement = (CompositeElement)modifierList.getNode();
-
-                        if (treeElement.findChildByType(type) == null) {
-                            TreeElement keyword = Factory.createSingleLeafElement(type, PsiModifier.PUBLIC, null,
-                                member.getManager());
-                            treeElement.addInternal(keyword, keyword, null, null);
-                        }
-                    }
-                });
+                    "\"public\" modifier must be present in interface methods/fields", ADD_PUBLIC);
             }
+        };
+    }
 
-            private boolean hasLineBreak(@NotNull PsiElement element, boolean forward) {
-                PsiElement e = element;
+    /**
+     * Makes the member of a problem on its name public.
+     */
+    private static class AddPublicFix implements LocalQuickFix {
+        /** {@inheritDoc} */
+        @NotNull @Override public String getFamilyName() {
+            return "Add \"public\"";
+        }
 
-                while (true) {
-                    PsiElement next = forward ? e.getNextSibling() : e.getPrevSibling();
+        /** {@inheritDoc} */
+        @Override public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiElement nameId = descriptor.getPsiElement();
 
-                    if (next == null) {
-                        e = e.getParent();
+            if (nameId == null || !(nameId.getParent() instanceof PsiMember))
+                return;
 
-                        if (e == null)
-                            return true;
+            PsiMember member = (PsiMember)nameId.getParent();
 
-                        continue;
-                    }
+            PsiModifierList modifierList = member.getModifierList();
 
-                    e = next;
+            if (modifierList == null)
+                return;
 
-                    if (e.getTextLength() == 0)
-                        continue;
+            if (!FileModificationService.getInstance().preparePsiElementForWrite(modifierList))
+                return;
 
-                    if (e instanceof PsiWhiteSpace || e instanceof PsiComment) {
-                        if (e.textContains('\n'))
-                            return true;
-                    }
-                    else {
-                        return false;
-                    }
-                }
-            }
+            if (member instanceof PsiMethod)
+                CodeEditUtil.markToReformat(((PsiMethod)member).getParameterList().getNode(), true);
 
-            private void checkSameLineWithMethodName(@NotNull PsiAnnotation ann) {
-                if (ann != null && hasLineBreak(ann, true)) {
-                    holder.registerProblem(ann, "Annotation @" + ann.getNameReferenceElement().getReferenceName()
-                        + " must be on the same line with the method name");
-                }
+            modifierList.setModifierProperty(PsiModifier.PRIVATE, false);
+            modifierList.setModifierProperty(PsiModifier.PROTECTED, false);
+
+            IElementType type = JavaTokenType.PUBLIC_KEYWORD;
+            CompositeElement treeElement = (CompositeElement)modifierList.getNode();
+
+            if (treeElement.findChildByType(type) == null) {
+                TreeElement keyword = Factory.createSingleLeafElement(type, PsiModifier.PUBLIC, null,
+                    member.getManager());
+                treeElement.addInternal(keyword, keyword, null, null);
             }
-        };
+        }
     }
 }
@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import com.intellij.codeHighlighting.HighlightDisplayLevel;
+import com.intellij.codeInsight.daemon.HighlightDisplayKey;
+import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.intellij.codeInspection.InspectionProfile;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.LocalInspectionToolSession;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemDescriptorBase;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.codeInspection.QuickFix;
+import com.intellij.codeInspection.ex.InspectionToolWrapper;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.profile.codeInspection.InspectionProjectProfileManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiFile;
+import org.apache.ignite.idea.inspection.abbrev.IgniteAbbreviationInspection;
+import org.apache.ignite.idea.inspection.comment.IgniteCommentInspection;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Composite inspection that checks all Apache Ignite Java rules in a single pass over a file.
+ * <p>
+ * Every element is dispatched to the visitors of the rules enabled in the inspection profile, cheap rules first.
+ * Problems are reported with the severity configured for the rule that found them. While the composite is enabled
+ * for a file, the standalone rule inspections skip it, so nothing is reported twice. A problem is dropped if it is
+ * suppressed for its rule, e.g. by {@code @SuppressWarnings("CommentAbsent")}, as it would be by the standalone
+ * inspection.
+ * <p>
+ * While the project is being indexed only the dumb aware rules are checked. The rest are deferred: highlighting is
+ * restarted once indexing is finished and then all rules are checked.
+ */
+public class IgniteStyleInspection extends AbstractBaseJavaLocalInspectionTool implements DumbAware {
+    /** Short name. */
+    public static final String SHORT_NAME = "IgniteStyle";
+
+    /** Rules in the order of dispatch, cheap structural checks before ones that resolve types or read config. */
+    private static final List<Rule> RULES = List.of(
+        new Rule("IgniteEmptyLine", IgniteEmptyLineInspection::new),
+        new Rule("IgnitePlublicInterfaceMethods", IgnitePlublicInterfaceMethodsInspection::new),
+        new Rule("IgniteBracket", IgniteBracketInspection::new),
+        new Rule("IgniteAnnotation", IgniteAnnotationInspection::new),
+        new Rule("JavaAbbreviationUsage", IgniteAbbreviationInspection::new),
+        new Rule("CommentAbsent", IgniteCommentInspection::new),
+        new Rule("IgniteWrongComparation", IgniteWrongComparationInspection::new)
+    );
+
+    /** Rule holders of the current session, needed to finish the rules. */
+    private static final Key<List<RuleProblemsHolder>> RULE_HOLDERS = Key.create("IgniteStyleInspection.holders");
+
+    /** {@inheritDoc} */
+    @Nls
+    @NotNull @Override public String getDisplayName() {
+        return "Apache Ignite code style (single pass)";
+    }
+
+    /** {@inheritDoc} */
+    @NotNull @Override public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly,
+        @NotNull LocalInspectionToolSession ses) {
+        PsiFile file = holder.getFile();
+
+        InspectionProfile profile = InspectionProjectProfileManager.getInstance(holder.getProject()).getCurrentProfile();
+
+        boolean dumb = DumbService.isDumb(holder.getProject());
+
+        List<RuleProblemsHolder> holders = new ArrayList<>(RULES.size());
+        List<PsiElementVisitor> visitors = new ArrayList<>(RULES.size());
+
+        for (Rule rule : RULES) {
+            HighlightDisplayKey key = HighlightDisplayKey.find(rule.shortName);
+
+            if (key != null && !profile.isToolEnabled(key, file))
+                continue;
+
+            LocalInspectionTool tool = rule.tool(profile, file);
+
+            if (dumb && !DumbService.isDumbAware(tool))
+                continue;
+
+            HighlightDisplayLevel level = key != null ? profile.getErrorLevel(key, file) : null;
+
+            RuleProblemsHolder ruleHolder = new RuleProblemsHolder(holder, tool,
+                level != null ? highlightType(level.getSeverity()) : ProblemHighlightType.GENERIC_ERROR_OR_WARNING);
+
+            tool.inspectionStarted(ses, isOnTheFly);
+
+            PsiElementVisitor visitor = tool.buildVisitor(ruleHolder, isOnTheFly, ses);
+
+            holders.add(ruleHolder);
+
+            if (visitor != PsiElementVisitor.EMPTY_VISITOR)
+                visitors.add(visitor);
+        }
+
+        ses.putUserData(RULE_HOLDERS, holders);
+
+        if (visitors.isEmpty())
+            return PsiElementVisitor.EMPTY_VISITOR;
+
+        final PsiElementVisitor[] arr = visitors.toArray(new PsiElementVisitor[0]);
+
+        return new PsiElementVisitor() {
+            /** {@inheritDoc} */
+            @Override public void visitElement(@NotNull PsiElement element) {
+                for (PsiElementVisitor visitor : arr)
+                    element.accept(visitor);
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override public void inspectionFinished(@NotNull LocalInspectionToolSession ses,
+        @NotNull ProblemsHolder problemsHolder) {
+        List<RuleProblemsHolder> holders = ses.getUserData(RULE_HOLDERS);
+
+        if (holders == null)
+            return;
+
+        ses.putUserData(RULE_HOLDERS, null);
+
+        for (RuleProblemsHolder ruleHolder : holders)
+            ruleHolder.tool.inspectionFinished(ses, ruleHolder);
+    }
+
+    /**
+     * Checks whether a standalone rule inspection should skip a file because the composite inspection checks it.
+     *
+     * @param holder Holder passed to the rule inspection.
+     * @return {@code true} if the rule must return an empty visitor.
+     */
+    public static boolean isDelegated(@NotNull ProblemsHolder holder) {
+        if (holder instanceof RuleProblemsHolder)
+            return false;
+
+        HighlightDisplayKey key = HighlightDisplayKey.find(SHORT_NAME);
+
+        if (key == null)
+            return false;
+
+        return InspectionProjectProfileManager.getInstance(holder.getProject()).getCurrentProfile()
+            .isToolEnabled(key, holder.getFile());
+    }
+
+    /**
+     * @param severity Severity configured for a rule.
+     * @return Highlight type that shows a problem with this severity regardless of the composite severity.
+     */
+    private static ProblemHighlightType highlightType(HighlightSeverity severity) {
+        if (HighlightSeverity.ERROR.equals(severity))
+            return ProblemHighlightType.GENERIC_ERROR;
+
+        if (HighlightSeverity.WARNING.equals(severity))
+            return ProblemHighlightType.WARNING;
+
+        if (HighlightSeverity.WEAK_WARNING.equals(severity))
+            return ProblemHighlightType.WEAK_WARNING;
+
+        if (HighlightSeverity.INFORMATION.equals(severity))
+            return ProblemHighlightType.INFORMATION;
+
+        // Custom severities can not be expressed by a highlight type, the composite one is used.
+        return ProblemHighlightType.GENERIC_ERROR_OR_WARNING;
+    }
+
+    /**
+     * Rule checked by the composite inspection.
+     */
+    private static class Rule {
+        /** Short name of the standalone inspection. */
+        private final String shortName;
+
+        /** Factory of the inspection used if the profile does not provide one. */
+        private final Supplier<LocalInspectionTool> factory;
+
+        /**
+         * @param shortName Short name of the standalone inspection.
+         * @param factory Factory of the inspection.
+         */
+        private Rule(String shortName, Supplier<LocalInspectionTool> factory) {
+            this.shortName = shortName;
+            this.factory = factory;
+        }
+
+        /**
+         * @param profile Inspection profile.
+         * @param file File.
+         * @return Inspection configured in the profile.
+         */
+        private LocalInspectionTool tool(InspectionProfile profile, PsiFile file) {
+            InspectionToolWrapper<?, ?> wrapper = profile.getInspectionTool(shortName, file);
+
+            if (wrapper != null && wrapper.getTool() instanceof LocalInspectionTool)
+                return (LocalInspectionTool)wrapper.getTool();
+
+            return factory.get();
+        }
+    }
+
+    /**
+     * Holder that forwards problems of a rule to the composite holder with the rule severity.
+     */
+    private static class RuleProblemsHolder extends ProblemsHolder {
+        /** Composite holder. */
+        private final ProblemsHolder delegate;
+
+        /** Rule inspection. */
+        private final LocalInspectionTool tool;
+
+        /** Highlight type of problems reported with the default one. */
+        private final ProblemHighlightType type;
+
+        /**
+         * @param delegate Composite holder.
+         * @param tool Rule inspection.
+         * @param type Highlight type of the rule.
+         */
+        private RuleProblemsHolder(ProblemsHolder delegate, LocalInspectionTool tool, ProblemHighlightType type) {
+            super(delegate.getManager(), delegate.getFile(), delegate.isOnTheFly());
+
+            this.delegate = delegate;
+            this.tool = tool;
+            this.type = type;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void registerProblem(@NotNull ProblemDescriptor problem) {
+            PsiElement start = problem.getStartElement();
+
+            // The composite is suppressed by its own id, the rule by the id of the standalone inspection.
+            if (start != null && tool.isSuppressedFor(start))
+                return;
+
+            if (problem.getHighlightType() != ProblemHighlightType.GENERIC_ERROR_OR_WARNING
+                || type == ProblemHighlightType.GENERIC_ERROR_OR_WARNING) {
+                delegate.registerProblem(problem);
+
+                return;
+            }
+
+            if (start == null)
+                return;
+
+            LocalQuickFix[] fixes = localFixes(problem.getFixes());
+
+            TextRange range = problem instanceof ProblemDescriptorBase ?
+                ((ProblemDescriptorBase)problem).getTextRangeInElement() : null;
+
+            PsiElement end = problem.getEndElement();
+
+            ProblemDescriptor res = start == end || end == null ?
+                getManager().createProblemDescriptor(start, range, problem.getDescriptionTemplate(), type,
+                    isOnTheFly(), fixes) :
+                getManager().createProblemDescriptor(start, end, problem.getDescriptionTemplate(), type,
+                    isOnTheFly(), fixes);
+
+            delegate.registerProblem(res);
+        }
+
+        /**
+         * @param fixes Fixes of a problem.
+         * @return Local fixes.
+         */
+        @Nullable private static LocalQuickFix[] localFixes(@Nullable QuickFix[] fixes) {
+            if (fixes == null)
+                return null;
+
+            List<LocalQuickFix> res = new ArrayList<>(fixes.length);
+
+            for (QuickFix fix : fixes) {
+                if (fix instanceof LocalQuickFix)
+                    res.add((LocalQuickFix)fix);
+            }
+
+            return res.toArray(LocalQuickFix.EMPTY_ARRAY);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.searches.ClassInheritorsSearch;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.apache.ignite.idea.util.IgniteProjectFileLocator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Types that must be compared with {@code equals()} rather than by reference.
+ * <p>
+ * Names are read from {@code idea/uncomparable-types.txt} in a project content root, one fully qualified name per
+ * line, or from the plugin defaults if there is no such file. Named classes and all their inheritors are resolved
+ * once per change of Java declarations, project roots or the list, and shared by all checked files.
+ */
+public class IgniteUncomparableTypes implements Disposable {
+    /** Project. */
+    private final Project project;
+
+    /** Locator of the project specific {@code idea/uncomparable-types.txt}. */
+    private final IgniteProjectFileLocator cfgLocator;
+
+    /** Default type names. */
+    private final Set<String> dfltNames;
+
+    /**
+     * @param project Project.
+     */
+    public IgniteUncomparableTypes(Project project) {
+        this.project = project;
+
+        cfgLocator = new IgniteProjectFileLocator(project, this, "idea", "uncomparable-types.txt");
+
+        try (InputStream is = getClass().getResourceAsStream("/uncomparable-types.txt")) {
+            dfltNames = parse(new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Gets resolved types. Must be called inside a read action.
+     *
+     * @return Resolved types.
+     */
+    @NotNull public Types getTypes() {
+        return CachedValuesManager.getManager(project).getCachedValue(project, () -> {
+            List<Object> deps = new ArrayList<>();
+
+            Set<String> names = names(deps);
+
+            // Inheritors change only with declarations, not with edits inside method bodies.
+            deps.add(PsiModificationTracker.getInstance(project).getJavaStructureModificationTracker());
+            deps.add(ProjectRootModificationTracker.getInstance(project));
+
+            return CachedValueProvider.Result.create(resolve(names), deps);
+        });
+    }
+
+    /**
+     * Gets configured type names. Must be called inside a read action.
+     *
+     * @return Fully qualified names of the types.
+     */
+    @NotNull public Set<String> getNames() {
+        return CachedValuesManager.getManager(project).getCachedValue(project, () -> {
+            List<Object> deps = new ArrayList<>();
+
+            return CachedValueProvider.Result.create(Collections.unmodifiableSet(names(deps)), deps);
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override public void dispose() {
+    }
+
+    /**
+     * @param deps Dependencies of values computed from the names, filled by this method.
+     * @return Configured type names.
+     */
+    private Set<String> names(List<Object> deps) {
+        deps.add(cfgLocator.getModificationTracker());
+
+        VirtualFile file = cfgLocator.getFile();
+
+        PsiFile psiFile = file != null ? PsiManager.getInstance(project).findFile(file) : null;
+
+        if (psiFile == null)
+            return dfltNames;
+
+        deps.add(psiFile);
+
+        return parse(psiFile.getText());
+    }
+
+    /**
+     * @param names Type names.
+     * @return Resolved types.
+     */
+    private Types resolve(Set<String> names) {
+        GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+
+        Set<PsiClass> classes = new HashSet<>();
+
+        for (String name : names) {
+            for (PsiClass cls : JavaPsiFacade.getInstance(project).findClasses(name, scope)) {
+                classes.add(cls);
+
+                classes.addAll(ClassInheritorsSearch.search(cls, scope, true).findAll());
+            }
+        }
+
+        return new Types(classes);
+    }
+
+    /**
+     * @param text File text.
+     * @return Type names, without blank lines and {@code #} comments.
+     */
+    static Set<String> parse(String text) {
+        Set<String> res = new LinkedHashSet<>();
+
+        for (String line : StringUtil.splitByLines(text)) {
+            line = line.trim();
+
+            if (!line.isEmpty() && !line.startsWith("#"))
+                res.add(line);
+        }
+
+        return res;
+    }
+
+    /**
+     * Resolved types. Valid until the next change of Java declarations.
+     */
+    public static final class Types {
+        /** Named classes and their inheritors. */
+        private final Set<PsiClass> classes;
+
+        /**
+         * @param classes Named classes and their inheritors.
+         */
+        private Types(Set<PsiClass> classes) {
+            this.classes = classes;
+        }
+
+        /**
+         * @param type Type.
+         * @return Whether values of the type must be compared with {@code equals()}.
+         */
+        public boolean contains(PsiType type) {
+            if (!(type instanceof PsiClassType))
+                return false;
+
+            PsiClass cls = ((PsiClassType)type).resolve();
+
+            return cls != null && classes.contains(cls);
+        }
+
+        /**
+         * @return Whether there are no such types in the project.
+         */
+        public boolean isEmpty() {
+            return classes.isEmpty();
+        }
+    }
+}
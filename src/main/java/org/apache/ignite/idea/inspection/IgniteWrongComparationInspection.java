@@ -20,19 +20,21 @@ package org.apache.ignite.idea.inspection;
 import com.intellij.codeInspection.*;
 import com.intellij.psi.*;
 import com.intellij.psi.tree.*;
+import com.intellij.psi.util.*;
 import org.jetbrains.annotations.*;
 
-import java.util.*;
-
 /**
- *
+ * Reports {@code ==} and {@code !=} comparisons of types that must be compared with {@code equals()}, see
+ * {@link IgniteUncomparableTypes}.
+ * <p>
+ * Operands that are surely primitive, e.g. literals, arithmetic or variables declared with a primitive type, are
+ * classified without type inference. Types of the other ones are inferred, since values of such types are often
+ * obtained only through calls, e.g. {@code a.topologyVersion() == b.topologyVersion()}.
+ * <p>
+ * Operand types are inferred, so files are not checked while being edited, see
+ * {@link IgniteJavaInspectionTool#isFullCheck(ProblemsHolder, boolean)}.
  */
-public class IgniteWrongComparationInspection extends AbstractBaseJavaLocalInspectionTool {
-    /** */
-    private static final Set<String> UNCOMPARABLE_TYPE = new HashSet<String>(Arrays.asList(
-        "org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion"
-    ));
-
+public class IgniteWrongComparationInspection extends IgniteJavaInspectionTool {
     /** {@inheritDoc} */
     @Nls
     @NotNull @Override public String getDisplayName() {
@@ -41,6 +43,15 @@ public class IgniteWrongComparationInspection extends AbstractBaseJavaLocalInspe
 
     /** {@inheritDoc} */
     @NotNull @Override public PsiElementVisitor buildVisitor(@NotNull final ProblemsHolder holder, boolean isOnTheFly) {
+        if (IgniteStyleInspection.isDelegated(holder) || !isFullCheck(holder, isOnTheFly))
+            return PsiElementVisitor.EMPTY_VISITOR;
+
+        final IgniteUncomparableTypes.Types types =
+            holder.getProject().getService(IgniteUncomparableTypes.class).getTypes();
+
+        if (types.isEmpty())
+            return PsiElementVisitor.EMPTY_VISITOR;
+
         return new JavaElementVisitor() {
 
             @Override public void visitBinaryExpression(PsiBinaryExpression expression) {
@@ -52,17 +63,54 @@ public class IgniteWrongComparationInspection extends AbstractBaseJavaLocalInspe
                     PsiExpression lOperand = expression.getLOperand();
                     PsiExpression rOperand = expression.getROperand();
 
-                    if (lOperand != null && rOperand != null) {
-                        PsiType type1 = lOperand.getType();
-                        PsiType type2 = rOperand.getType();
+                    if (lOperand == null || rOperand == null || isPrimitive(lOperand) || isPrimitive(rOperand))
+                        return;
+
+                    PsiType type1 = lOperand.getType();
+
+                    if (type1 == null || type1 instanceof PsiPrimitiveType)
+                        return;
 
-                        if (type1 != null && type2 != null && !type1.equals(PsiType.NULL) && !type2.equals(PsiType.NULL)
-                            && (UNCOMPARABLE_TYPE.contains(type1.getCanonicalText())
-                            || UNCOMPARABLE_TYPE.contains(type2.getCanonicalText())))
-                            holder.registerProblem(expression, getDisplayName());
-                    }
+                    PsiType type2 = rOperand.getType();
+
+                    if (type2 != null && !(type2 instanceof PsiPrimitiveType)
+                        && (types.contains(type1) || types.contains(type2)))
+                        holder.registerProblem(expression, getDisplayName());
                 }
             }
         };
     }
+
+    /**
+     * Classifies an operand without type inference.
+     *
+     * @param operand Operand.
+     * @return {@code True} if the operand is surely of a primitive type or {@code null}.
+     */
+    private static boolean isPrimitive(PsiExpression operand) {
+        PsiExpression expr = PsiUtil.skipParenthesizedExprDown(operand);
+
+        if (expr instanceof PsiLiteralExpression)
+            return ((PsiLiteralExpression)expr).getType() instanceof PsiPrimitiveType;
+
+        // All but string concatenation.
+        if (expr instanceof PsiPolyadicExpression)
+            return ((PsiPolyadicExpression)expr).getOperationTokenType() != JavaTokenType.PLUS;
+
+        if (expr instanceof PsiInstanceOfExpression || expr instanceof PsiPrefixExpression
+            || expr instanceof PsiPostfixExpression)
+            return true;
+
+        if (expr instanceof PsiReferenceExpression) {
+            PsiElement target = ((PsiReferenceExpression)expr).resolve();
+
+            if (target instanceof PsiVariable) {
+                PsiTypeElement typeElem = ((PsiVariable)target).getTypeElement();
+
+                return typeElem != null && !typeElem.isInferredType() && typeElem.getType() instanceof PsiPrimitiveType;
+            }
+        }
+
+        return false;
+    }
 }
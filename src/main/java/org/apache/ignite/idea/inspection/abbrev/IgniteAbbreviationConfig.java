@@ -17,45 +17,64 @@
 
 package org.apache.ignite.idea.inspection.abbrev;
 
+import com.intellij.lang.properties.IProperty;
 import com.intellij.lang.properties.psi.impl.PropertiesFileImpl;
-import com.intellij.openapi.module.Module;
-import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.Disposable;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.roots.ModuleRootManager;
-import com.intellij.openapi.util.Key;
-import com.intellij.openapi.util.Pair;
-import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.idea.util.IgniteProjectFileLocator;
+import org.apache.ignite.idea.util.IgniteUtils.CamelCaseSpans;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+import static org.apache.ignite.idea.util.IgniteUtils.splitCamelCase;
 
 /**
- *
+ * Project service that provides abbreviation rules.
+ * <p>
+ * Rules are taken from {@code idea/abbreviation.properties} located in one of the project content roots, or from
+ * the plugin defaults if there is no such file. Rules are exposed as an immutable {@link Config} snapshot which is
+ * safe to share between highlighting threads: callers should obtain it once per file and use it for all lookups.
  */
-public class IgniteAbbreviationConfig {
-
-    private static final Key<Pair<Config, Long>> KEY = Key.create("IgniteAbbreviationConfig.KEY");
+public class IgniteAbbreviationConfig implements Disposable {
+    /** Snapshot version generator. */
+    private static final AtomicLong VER_GEN = new AtomicLong();
 
     private final Project project;
 
     private final Config defaultConfig;
 
-    private PropertiesFileImpl cfgFile;
+    /** Locator of the project specific {@code idea/abbreviation.properties}. */
+    private final IgniteProjectFileLocator cfgLocator;
 
-    private long lastVfsModification;
+    /** Last snapshot built from the project specific file. */
+    private volatile Config fileConfig;
+
+    /** Number of snapshots built from the project specific file. */
+    private final AtomicLong reloadCnt = new AtomicLong();
+
+    /** Verdicts shared by Java and Scala inspections. */
+    private final IgniteAbbreviationVerdictCache verdictCache = new IgniteAbbreviationVerdictCache();
 
     public IgniteAbbreviationConfig(Project project) {
         this.project = project;
 
+        cfgLocator = new IgniteProjectFileLocator(project, this, "idea", "abbreviation.properties");
+
         try {
             InputStream is = getClass().getResourceAsStream("/abbreviation.properties");
             try {
@@ -70,143 +89,317 @@ public class IgniteAbbreviationConfig {
         }
     }
 
-    private PropertiesFileImpl findCfgFile() {
-        for (Module module : ModuleManager.getInstance(project).getModules()) {
-            for (VirtualFile root : ModuleRootManager.getInstance(module).getContentRoots()) {
-                VirtualFile ruleFile = VfsUtil.findRelativeFile(root, "idea", "abbreviation.properties");
+    /**
+     * Gets current rules snapshot. Must be called inside a read action.
+     *
+     * @return Rules snapshot.
+     */
+    @NotNull
+    public Config getConfig() {
+        VirtualFile file = cfgLocator.getFile();
 
-                if (ruleFile != null) {
-                    PsiFile psiFile = PsiManager.getInstance(project).findFile(ruleFile);
+        if (file == null)
+            return defaultConfig;
 
-                    if (psiFile instanceof PropertiesFileImpl)
-                        return (PropertiesFileImpl)psiFile;
-                }
-            }
-        }
+        PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
 
-        return null;
-    }
+        if (!(psiFile instanceof PropertiesFileImpl))
+            return defaultConfig;
 
-    @NotNull
-    public Config getConfig() {
-        if (cfgFile == null || !cfgFile.isValid()) {
-            long currentModificationCount = VirtualFileManager.getInstance().getModificationCount();
+        long stamp = psiFile.getModificationStamp();
 
-            if (lastVfsModification != currentModificationCount) {
-                lastVfsModification = currentModificationCount;
+        Config cfg = fileConfig;
 
-                cfgFile = findCfgFile();
+        if (isCurrent(cfg, file, stamp))
+            return cfg;
 
-                if (cfgFile == null)
-                    return defaultConfig;
-            }
-            else {
-                return defaultConfig;
-            }
-        }
+        // One snapshot per file version: verdicts cached for its version must be found by all readers.
+        synchronized (this) {
+            cfg = fileConfig;
 
-        Pair<Config, Long> pair = cfgFile.getUserData(KEY);
+            if (!isCurrent(cfg, file, stamp)) {
+                cfg = new Config((PropertiesFileImpl)psiFile, file, stamp);
 
-        if (pair == null || cfgFile.getModificationStamp() != pair.second) {
-            pair = new Pair<Config, Long>(new Config(cfgFile), cfgFile.getModificationStamp());
+                fileConfig = cfg;
 
-            cfgFile.putUserData(KEY, pair);
+                reloadCnt.incrementAndGet();
+            }
         }
 
-        return pair.first;
+        return cfg;
     }
 
     /**
-     * Performs lookup of abbreviated part in reverse abbreviation
-     * table.
-     *
-     * @param abbrev Abbreviated string.
-     * @return Unwrapped string.
+     * @param cfg Snapshot or {@code null}.
+     * @param file Project specific file.
+     * @param stamp Modification stamp of the file.
+     * @return Whether the snapshot is built from the given version of the file.
      */
-    @Nullable public String getUnwrapping(String abbrev) {
-        return getConfig().revAbbrevMap.get(abbrev.toLowerCase());
+    private static boolean isCurrent(@Nullable Config cfg, VirtualFile file, long stamp) {
+        return cfg != null && file.equals(cfg.file) && cfg.stamp == stamp;
     }
 
     /**
-     * Performs lookup of name part in abbreviation table.
-     *
-     * @param namePart Name part to lookup.
-     * @return Abbreviation for given name or {@code null} if there is no such abbreviation.
+     * @return Cache of identifier verdicts, valid for any snapshot returned by {@link #getConfig()}.
      */
-    @Nullable public String getAbbreviation(String namePart) {
-        return getConfig().abbrevMap.get(namePart.toLowerCase());
+    public IgniteAbbreviationVerdictCache getVerdictCache() {
+        return verdictCache;
     }
 
     /**
-     * Constructs abbreviated name from parts of wrong name.
-     *
-     * @param oldNameParts Split of variable name.
-     * @return Abbreviated variable name.
+     * @return Number of snapshots built from the project specific file so far.
      */
-    public String replaceWithAbbreviations(List<String> oldNameParts) {
-        StringBuilder sb = new StringBuilder();
+    public long getReloadCount() {
+        return reloadCnt.get();
+    }
 
-        for (String part : oldNameParts) {
-            String abbrev = getAbbreviation(part);
+    /** {@inheritDoc} */
+    @Override public void dispose() {
+    }
 
-            if (abbrev == null)
-                sb.append(part);
-            else {
-                // Only the following cases are possible: count, Count and COUNT since
-                // parser splits tokens based on this rule.
-                int pos = sb.length();
+    /**
+     * @return Number of content root scans performed to find the project specific config.
+     */
+    @TestOnly
+    int scanCount() {
+        return cfgLocator.getScanCount();
+    }
 
-                sb.append(abbrev);
+    /**
+     * Immutable snapshot of abbreviation rules.
+     */
+    public static final class Config {
+        /** Snapshot version, unique and growing within the IDE session. */
+        private final long ver = VER_GEN.incrementAndGet();
 
-                if (Character.isUpperCase(part.charAt(0))) {
-                    sb.setCharAt(pos, Character.toUpperCase(sb.charAt(pos)));
+        /** Source file or {@code null} for plugin defaults. */
+        @Nullable private final VirtualFile file;
 
-                    pos++;
+        /** Modification stamp of the source file. */
+        private final long stamp;
 
-                    if (Character.isUpperCase(part.charAt(part.length() - 1))) {
-                        // Full abbreviation, like COUNT
-                        while (pos < sb.length()) {
-                            sb.setCharAt(pos, Character.toUpperCase(sb.charAt(pos)));
+        /** Compiled abbreviation rules. */
+        private final IgniteAbbreviationDictionary dict;
 
-                            pos++;
-                        }
-                    }
-                }
-            }
+        /** Digest of the rules, equal for snapshots with equal rules. */
+        private final long digest;
+
+        /**
+         * @param psiFile Properties file.
+         * @param file Source file.
+         * @param stamp Modification stamp of the source file.
+         */
+        private Config(PropertiesFileImpl psiFile, VirtualFile file, long stamp) {
+            this(load(psiFile), file, stamp);
         }
 
-        return sb.toString();
-    }
+        /**
+         * @param is Properties input stream.
+         * @throws IOException If failed to read properties.
+         */
+        public Config(InputStream is) throws IOException {
+            this(load(is), null, 0);
+        }
 
-    /**
-     *
-     */
-    private static class Config {
-        /** Map from common words to abbreviations. */
-        private final Map<String, String> abbrevMap = new HashMap<String, String>();
+        /**
+         * @param rules Map from common words to abbreviations, in definition order.
+         * @param file Source file.
+         * @param stamp Modification stamp of the source file.
+         */
+        private Config(Map<String, String> rules, @Nullable VirtualFile file, long stamp) {
+            this.file = file;
+            this.stamp = stamp;
+
+            dict = new IgniteAbbreviationDictionary(rules);
+            digest = digest(rules);
+        }
 
-        /** Map from abbreviations to common words. */
-        private final Map<String, String> revAbbrevMap = new HashMap<String, String>();
+        /**
+         * @param rules Map from common words to abbreviations, in definition order.
+         * @return Digest of the rules.
+         */
+        private static long digest(Map<String, String> rules) {
+            MessageDigest md;
 
-        private Config(PropertiesFileImpl file) {
-            for (Map.Entry<String, String> entry : file.getNamesMap().entrySet()) {
-                abbrevMap.put(entry.getKey(), entry.getValue());
-                revAbbrevMap.put(entry.getValue(), entry.getKey());
+            try {
+                md = MessageDigest.getInstance("SHA-256");
             }
+            catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+
+            for (Map.Entry<String, String> rule : rules.entrySet()) {
+                md.update(rule.getKey().getBytes(StandardCharsets.UTF_8));
+                md.update((byte)'=');
+                md.update(rule.getValue().getBytes(StandardCharsets.UTF_8));
+                md.update((byte)'\n');
+            }
+
+            return ByteBuffer.wrap(md.digest()).getLong();
         }
 
-        private Config(InputStream is) throws IOException {
-            Properties props = new Properties();
+        /**
+         * @param psiFile Properties file.
+         * @return Map from common words to abbreviations, in definition order.
+         */
+        private static Map<String, String> load(PropertiesFileImpl psiFile) {
+            Map<String, String> rules = new LinkedHashMap<>();
+
+            for (IProperty prop : psiFile.getProperties()) {
+                String key = prop.getKey();
+                String val = prop.getValue();
+
+                if (key != null && val != null)
+                    rules.put(key, val);
+            }
+
+            return rules;
+        }
+
+        /**
+         * @param is Properties input stream.
+         * @return Map from common words to abbreviations, in definition order.
+         * @throws IOException If failed to read properties.
+         */
+        private static Map<String, String> load(InputStream is) throws IOException {
+            Map<String, String> rules = new LinkedHashMap<>();
+
+            // Properties do not keep definition order which is needed to unwrap ambiguous abbreviations.
+            Properties props = new Properties() {
+                @Override public synchronized Object put(Object key, Object val) {
+                    rules.put((String)key, (String)val);
+
+                    return super.put(key, val);
+                }
+            };
 
             props.load(is);
 
-            for (Map.Entry<Object, Object> entry : props.entrySet()) {
-                String key = (String)entry.getKey();
-                String val = (String)entry.getValue();
+            return rules;
+        }
+
+        /**
+         * @return Snapshot version. Different snapshots always have different versions.
+         */
+        public long getVersion() {
+            return ver;
+        }
+
+        /**
+         * @return Digest of the rules. Unlike version, it is stable across IDE sessions and equal for equal rules.
+         */
+        public long getDigest() {
+            return digest;
+        }
+
+        /**
+         * Performs lookup of abbreviated part in reverse abbreviation
+         * table.
+         *
+         * @param abbrev Abbreviated string.
+         * @return Unwrapped string. If several words share the abbreviation, the first defined one.
+         */
+        @Nullable public String getUnwrapping(CharSequence abbrev) {
+            return dict.unwrapping(abbrev, 0, abbrev.length());
+        }
+
+        /**
+         * Performs lookup of abbreviated region in reverse abbreviation table.
+         *
+         * @param s Char sequence.
+         * @param off Region offset.
+         * @param len Region length.
+         * @return Unwrapped string. If several words share the abbreviation, the first defined one.
+         */
+        @Nullable public String getUnwrapping(CharSequence s, int off, int len) {
+            return dict.unwrapping(s, off, len);
+        }
+
+        /**
+         * Performs lookup of abbreviated part in reverse abbreviation table.
+         *
+         * @param abbrev Abbreviated string.
+         * @return All words abbreviated this way, in definition order.
+         */
+        @NotNull public List<String> getUnwrappings(CharSequence abbrev) {
+            return dict.unwrappings(abbrev, 0, abbrev.length());
+        }
+
+        /**
+         * Performs lookup of name part in abbreviation table.
+         *
+         * @param namePart Name part to lookup.
+         * @return Abbreviation for given name or {@code null} if there is no such abbreviation.
+         */
+        @Nullable public String getAbbreviation(CharSequence namePart) {
+            return dict.abbreviation(namePart, 0, namePart.length());
+        }
+
+        /**
+         * Performs lookup of name region in abbreviation table.
+         *
+         * @param s Char sequence.
+         * @param off Region offset.
+         * @param len Region length.
+         * @return Abbreviation for given region or {@code null} if there is no such abbreviation.
+         */
+        @Nullable public String getAbbreviation(CharSequence s, int off, int len) {
+            return dict.abbreviation(s, off, len);
+        }
+
+        /**
+         * Constructs abbreviated name from parts of wrong name.
+         *
+         * @param oldName Variable name.
+         * @return Abbreviated variable name.
+         */
+        public String replaceWithAbbreviations(String oldName) {
+            return replaceWithAbbreviations(oldName, splitCamelCase(oldName, new CamelCaseSpans()));
+        }
+
+        /**
+         * Constructs abbreviated name from parts of wrong name.
+         *
+         * @param oldName Variable name.
+         * @param parts Split of variable name.
+         * @return Abbreviated variable name.
+         */
+        public String replaceWithAbbreviations(CharSequence oldName, CamelCaseSpans parts) {
+            StringBuilder sb = new StringBuilder(oldName.length());
+
+            for (int i = 0; i < parts.size(); i++) {
+                int start = parts.start(i);
+                int end = parts.end(i);
 
-                abbrevMap.put(key, val);
-                revAbbrevMap.put(val, key);
+                String abbrev = dict.abbreviation(oldName, start, end - start);
+
+                if (abbrev == null)
+                    sb.append(oldName, start, end);
+                else {
+                    // Only the following cases are possible: count, Count and COUNT since
+                    // parser splits tokens based on this rule.
+                    int pos = sb.length();
+
+                    sb.append(abbrev);
+
+                    if (Character.isUpperCase(oldName.charAt(start))) {
+                        sb.setCharAt(pos, Character.toUpperCase(sb.charAt(pos)));
+
+                        pos++;
+
+                        if (Character.isUpperCase(oldName.charAt(end - 1))) {
+                            // Full abbreviation, like COUNT
+                            while (pos < sb.length()) {
+                                sb.setCharAt(pos, Character.toUpperCase(sb.charAt(pos)));
+
+                                pos++;
+                            }
+                        }
+                    }
+                }
             }
+
+            return sb.toString();
         }
     }
 }
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection.abbrev;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable case-insensitive dictionary of abbreviations compiled into open addressing hash tables over
+ * lower-cased chars.
+ * <p>
+ * Lookups accept a region of any {@link CharSequence}, e.g. a camel case part of an identifier, and do not allocate.
+ * Reverse lookups keep all words sharing the same abbreviation (e.g. {@code init} for both {@code initial} and
+ * {@code initialize}) in the order of rules definition.
+ */
+public final class IgniteAbbreviationDictionary {
+    /** Number of lookups in all dictionaries, counted only while {@link #cntLookups} is set. */
+    private static final LongAdder LOOKUP_CNT = new LongAdder();
+
+    /** Whether lookups are counted. */
+    private static volatile boolean cntLookups;
+
+    /** Map from common words to abbreviations. */
+    private final Table abbrevs;
+
+    /** Map from abbreviations to common words. */
+    private final Table words;
+
+    /**
+     * @param rules Map from common words to abbreviations, in definition order.
+     */
+    public IgniteAbbreviationDictionary(Map<String, String> rules) {
+        Map<String, List<String>> fwd = new LinkedHashMap<>();
+        Map<String, List<String>> rev = new LinkedHashMap<>();
+
+        for (Map.Entry<String, String> rule : rules.entrySet()) {
+            String word = rule.getKey();
+            String abbrev = rule.getValue();
+
+            fwd.put(fold(word), List.of(abbrev));
+
+            List<String> revWords = rev.computeIfAbsent(fold(abbrev), k -> new ArrayList<>(1));
+
+            if (!revWords.contains(word))
+                revWords.add(word);
+        }
+
+        abbrevs = new Table(fwd);
+        words = new Table(rev);
+    }
+
+    /**
+     * Performs lookup of a name part in abbreviation table.
+     *
+     * @param s Char sequence.
+     * @param off Offset of the name part.
+     * @param len Length of the name part.
+     * @return Abbreviation for given name part or {@code null} if there is no such abbreviation.
+     */
+    @Nullable public String abbreviation(CharSequence s, int off, int len) {
+        List<String> res = abbrevs.get(s, off, len);
+
+        return res != null ? res.get(0) : null;
+    }
+
+    /**
+     * Performs lookup of abbreviated part in reverse abbreviation table.
+     *
+     * @param s Char sequence.
+     * @param off Offset of the abbreviated part.
+     * @param len Length of the abbreviated part.
+     * @return First defined word for given abbreviation or {@code null} if there is no such word.
+     */
+    @Nullable public String unwrapping(CharSequence s, int off, int len) {
+        List<String> res = words.get(s, off, len);
+
+        return res != null ? res.get(0) : null;
+    }
+
+    /**
+     * Performs lookup of abbreviated part in reverse abbreviation table.
+     *
+     * @param s Char sequence.
+     * @param off Offset of the abbreviated part.
+     * @param len Length of the abbreviated part.
+     * @return All words for given abbreviation in definition order, empty list if there are none.
+     */
+    @NotNull public List<String> unwrappings(CharSequence s, int off, int len) {
+        List<String> res = words.get(s, off, len);
+
+        return res != null ? res : Collections.emptyList();
+    }
+
+    /**
+     * Enables or disables counting of lookups in all dictionaries.
+     *
+     * @param cnt Whether to count lookups.
+     */
+    public static void countLookups(boolean cnt) {
+        cntLookups = cnt;
+    }
+
+    /**
+     * @return Number of lookups in all dictionaries while counting was enabled.
+     */
+    public static long lookupCount() {
+        return LOOKUP_CNT.sum();
+    }
+
+    /**
+     * @return Number of words in the dictionary.
+     */
+    public int size() {
+        return abbrevs.size;
+    }
+
+    /**
+     * @param s String.
+     * @return String with every char lower-cased the same way as lookups do it.
+     */
+    private static String fold(String s) {
+        char[] chars = new char[s.length()];
+
+        for (int i = 0; i < chars.length; i++)
+            chars[i] = Character.toLowerCase(s.charAt(i));
+
+        return new String(chars);
+    }
+
+    /**
+     * Computes case-insensitive hash of a char sequence region.
+     *
+     * @param s Char sequence.
+     * @param off Region offset.
+     * @param len Region length.
+     * @return Hash.
+     */
+    private static int hash(CharSequence s, int off, int len) {
+        int h = 0;
+
+        for (int i = off, end = off + len; i < end; i++)
+            h = 31 * h + Character.toLowerCase(s.charAt(i));
+
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Open addressing hash table with linear probing and folded keys.
+     */
+    private static final class Table {
+        /** Folded keys. */
+        private final String[] keys;
+
+        /** Values. */
+        private final List<String>[] vals;
+
+        /** Index mask. */
+        private final int mask;
+
+        /** Number of keys. */
+        private final int size;
+
+        /** Length of the longest key. */
+        private final int maxKeyLen;
+
+        /**
+         * @param entries Entries with folded keys.
+         */
+        @SuppressWarnings("unchecked")
+        private Table(Map<String, List<String>> entries) {
+            int cap = 8;
+
+            while (cap < entries.size() * 2)
+                cap <<= 1;
+
+            keys = new String[cap];
+            vals = new List[cap];
+            mask = cap - 1;
+            size = entries.size();
+
+            int maxLen = 0;
+
+            for (Map.Entry<String, List<String>> e : entries.entrySet()) {
+                String key = e.getKey();
+
+                int idx = hash(key, 0, key.length()) & mask;
+
+                while (keys[idx] != null)
+                    idx = (idx + 1) & mask;
+
+                keys[idx] = key;
+                vals[idx] = Collections.unmodifiableList(e.getValue());
+
+                maxLen = Math.max(maxLen, key.length());
+            }
+
+            maxKeyLen = maxLen;
+        }
+
+        /**
+         * @param s Char sequence.
+         * @param off Key offset.
+         * @param len Key length.
+         * @return Value or {@code null} if there is no such key.
+         */
+        @Nullable private List<String> get(CharSequence s, int off, int len) {
+            if (cntLookups)
+                LOOKUP_CNT.increment();
+
+            if (len == 0 || len > maxKeyLen)
+                return null;
+
+            for (int idx = hash(s, off, len) & mask; keys[idx] != null; idx = (idx + 1) & mask) {
+                if (matches(keys[idx], s, off, len))
+                    return vals[idx];
+            }
+
+            return null;
+        }
+
+        /**
+         * @param key Folded key.
+         * @param s Char sequence.
+         * @param off Region offset.
+         * @param len Region length.
+         * @return Whether the region is equal to the key ignoring case.
+         */
+        private static boolean matches(String key, CharSequence s, int off, int len) {
+            if (key.length() != len)
+                return false;
+
+            for (int i = 0; i < len; i++) {
+                if (key.charAt(i) != Character.toLowerCase(s.charAt(off + i)))
+                    return false;
+            }
+
+            return true;
+        }
+    }
+}
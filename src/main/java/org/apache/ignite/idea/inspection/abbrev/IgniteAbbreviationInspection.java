@@ -18,10 +18,10 @@
 package org.apache.ignite.idea.inspection.abbrev;
 
 import com.intellij.codeInspection.*;
-import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.*;
 import com.intellij.psi.*;
-import com.intellij.refactoring.*;
+import org.apache.ignite.idea.inspection.IgniteJavaInspectionTool;
+import org.apache.ignite.idea.inspection.IgniteStyleInspection;
 import org.jetbrains.annotations.*;
 
 import java.util.*;
@@ -31,8 +31,11 @@ import static org.apache.ignite.idea.util.IgniteUtils.*;
 /**
  * Inspection that checks variable names for usage of restricted words that
  * need to be abbreviated.
+ * <p>
+ * Names are split and checked without indices, so problems are reported while the project is being indexed. The
+ * rename fix searches usages and is offered once indexing is finished.
  */
-public class IgniteAbbreviationInspection extends AbstractBaseJavaLocalInspectionTool {
+public class IgniteAbbreviationInspection extends IgniteJavaInspectionTool implements DumbAware {
     /** {@inheritDoc} */
     @NotNull @Override public String getShortName() {
         return "JavaAbbreviationUsage";
@@ -47,9 +50,23 @@ public class IgniteAbbreviationInspection extends AbstractBaseJavaLocalInspectio
     /** {@inheritDoc} */
     @NotNull @Override public PsiElementVisitor buildVisitor(@NotNull final ProblemsHolder holder,
         final boolean isOnTheFly) {
-        final IgniteAbbreviationConfig cfg = holder.getProject().getService(IgniteAbbreviationConfig.class);
+        if (IgniteStyleInspection.isDelegated(holder))
+            return PsiElementVisitor.EMPTY_VISITOR;
+
+        IgniteAbbreviationConfig svc = holder.getProject().getService(IgniteAbbreviationConfig.class);
+
+        // Rules snapshot is taken once per file.
+        final IgniteAbbreviationConfig.Config cfg = svc.getConfig();
+
+        final IgniteAbbreviationVerdictCache verdicts = svc.getVerdictCache();
+
+        // The file is highlighted again when indexing is finished.
+        final boolean dumb = DumbService.isDumb(holder.getProject());
 
         return new JavaElementVisitor() {
+            /** Reusable name parts buffer. */
+            private final CamelCaseSpans spans = new CamelCaseSpans();
+
             /** {@inheritDoc} */
             @Override public void visitField(PsiField field) {
                 boolean isFinal = false;
@@ -101,16 +118,20 @@ public class IgniteAbbreviationInspection extends AbstractBaseJavaLocalInspectio
                 if (!el.isPhysical())
                     return;
 
-                List<String> nameParts = camelCaseParts(toCheck.getName());
+                String name = toCheck.getName();
 
-                for (String part : nameParts) {
-                    if (cfg.getAbbreviation(part) != null) {
-                        holder.registerProblem(el, "Abbreviation should be used",
-                            new RenameToFix(cfg.replaceWithAbbreviations(nameParts)));
+                if (name == null)
+                    return;
 
-                        break;
-                    }
-                }
+                IgniteAbbreviationVerdictCache.Verdict verdict = verdicts.verdict(cfg, name, spans);
+
+                if (!verdict.needsRename())
+                    return;
+
+                if (dumb)
+                    holder.registerProblem(el, "Abbreviation should be used");
+                else
+                    holder.registerProblem(el, "Abbreviation should be used", new RenameToFix(verdict.newName()));
             }
         };
     }
@@ -119,9 +140,6 @@ public class IgniteAbbreviationInspection extends AbstractBaseJavaLocalInspectio
      * Renames variable to a given name.
      */
     private class RenameToFix implements LocalQuickFix, BatchQuickFix {
-        /** Logger. */
-        private static final Logger LOG = Logger.getInstance(RenameToFix.class);
-
         /** New proposed variable name. */
         private String name;
 
@@ -152,47 +170,23 @@ public class IgniteAbbreviationInspection extends AbstractBaseJavaLocalInspectio
         /** {@inheritDoc} */
         @Override public void applyFix(@NotNull Project project, CommonProblemDescriptor[] descriptors,
             @NotNull List<PsiElement> psiElementsToIgnore, @Nullable Runnable refreshViews) {
-            for (CommonProblemDescriptor descriptor : descriptors) {
-                QuickFix[] fixes = descriptor.getFixes();
-
-                if (fixes == null || fixes.length == 0) {
-                    LOG.warn("No fixes found.");
-                    continue;
-                }
+            IgniteBulkRename rename = new IgniteBulkRename(project);
 
-                Optional<QuickFix> renameFix = Arrays.stream(fixes)
-                    .filter(RenameToFix.class::isInstance)
-                    .findAny();
+            rename.addAll(descriptors, RenameToFix.class, PsiElement::getParent, fix -> fix.name);
 
-                if (renameFix.isEmpty()) {
-                    LOG.warn("No rename fix found.");
-                    continue;
-                }
+            rename.run();
 
-                renameFix.get().applyFix(project, descriptor);
-            }
+            if (refreshViews != null)
+                refreshViews.run();
         }
 
         /** {@inheritDoc} */
         public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descr) {
-            PsiElement element = descr.getPsiElement().getParent();
-
-            rename(project, element, name);
-        }
-
-        /**
-         * Renames given element to a given name.
-         *
-         * @param project Project in which variable is located.
-         * @param element Element to rename.
-         * @param name New element name.
-         */
-        private void rename(@NotNull Project project, @NotNull PsiElement element, @NotNull String name) {
-            JavaRefactoringFactory factory = JavaRefactoringFactory.getInstance(project);
+            IgniteBulkRename rename = new IgniteBulkRename(project);
 
-            RenameRefactoring renRefactoring = factory.createRename(element, name, false, false);
+            rename.add(descr.getPsiElement().getParent(), name);
 
-            renRefactoring.run();
+            rename.run();
         }
     }
 }
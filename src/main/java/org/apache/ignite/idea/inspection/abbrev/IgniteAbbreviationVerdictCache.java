@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection.abbrev;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.idea.util.IgniteUtils.CamelCaseSpans;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.idea.util.IgniteUtils.splitCamelCase;
+
+/**
+ * Bounded cache of abbreviation verdicts keyed by identifier text.
+ * <p>
+ * The same names occur in thousands of files, so the verdict (clean, or the name to rename to) is computed once per
+ * rules snapshot. Entries remember the {@link IgniteAbbreviationConfig.Config#getVersion() version} of the snapshot
+ * they were computed with and are recomputed on mismatch, so a rules change never yields a stale verdict.
+ * <p>
+ * The cache is split into independently locked LRU stripes to keep highlighting threads from contending.
+ */
+public final class IgniteAbbreviationVerdictCache {
+    /** Default number of stripes. */
+    public static final int DFLT_STRIPES = 16;
+
+    /** Default maximum number of entries in a stripe. */
+    public static final int DFLT_STRIPE_CAP = 1024;
+
+    /** Stripes. */
+    private final Stripe[] stripes;
+
+    /** Stripe index mask. */
+    private final int mask;
+
+    /** Number of lookups answered from the cache. */
+    private final LongAdder hits = new LongAdder();
+
+    /** Number of lookups that computed a verdict. */
+    private final LongAdder misses = new LongAdder();
+
+    /** Creates cache with default bounds. */
+    public IgniteAbbreviationVerdictCache() {
+        this(DFLT_STRIPES, DFLT_STRIPE_CAP);
+    }
+
+    /**
+     * @param stripesCnt Number of stripes, rounded up to a power of two.
+     * @param stripeCap Maximum number of entries in a stripe.
+     */
+    public IgniteAbbreviationVerdictCache(int stripesCnt, int stripeCap) {
+        assert stripesCnt > 0 && stripeCap > 0;
+
+        int cnt = Integer.highestOneBit(stripesCnt);
+
+        if (cnt < stripesCnt)
+            cnt <<= 1;
+
+        stripes = new Stripe[cnt];
+        mask = cnt - 1;
+
+        for (int i = 0; i < cnt; i++)
+            stripes[i] = new Stripe(stripeCap);
+    }
+
+    /**
+     * Gets verdict for an identifier, computing it on cache miss.
+     *
+     * @param cfg Rules snapshot.
+     * @param name Identifier.
+     * @param spans Reusable buffer for name parts.
+     * @return Verdict.
+     */
+    @NotNull public Verdict verdict(IgniteAbbreviationConfig.Config cfg, String name, CamelCaseSpans spans) {
+        long ver = cfg.getVersion();
+
+        int h = name.hashCode();
+
+        Stripe stripe = stripes[(h ^ (h >>> 16)) & mask];
+
+        Entry e;
+
+        synchronized (stripe) {
+            e = stripe.get(name);
+        }
+
+        if (e != null && e.ver == ver) {
+            hits.increment();
+
+            return e.verdict;
+        }
+
+        misses.increment();
+
+        Verdict verdict = compute(cfg, name, spans);
+
+        synchronized (stripe) {
+            Entry cur = stripe.get(name);
+
+            // Do not overwrite a verdict of a newer snapshot computed concurrently.
+            if (cur == null || cur.ver < ver)
+                stripe.put(name, new Entry(ver, verdict));
+        }
+
+        return verdict;
+    }
+
+    /**
+     * @param cfg Rules snapshot.
+     * @param name Identifier.
+     * @param spans Reusable buffer for name parts.
+     * @return Verdict.
+     */
+    private static Verdict compute(IgniteAbbreviationConfig.Config cfg, String name, CamelCaseSpans spans) {
+        splitCamelCase(name, spans);
+
+        String[] parts = null;
+        int cnt = 0;
+
+        for (int i = 0; i < spans.size(); i++) {
+            if (cfg.getAbbreviation(name, spans.start(i), spans.length(i)) != null) {
+                if (parts == null)
+                    parts = new String[spans.size() - i];
+
+                parts[cnt++] = name.substring(spans.start(i), spans.end(i));
+            }
+        }
+
+        if (parts == null)
+            return Verdict.CLEAN;
+
+        String[] abbreviated = new String[cnt];
+
+        System.arraycopy(parts, 0, abbreviated, 0, cnt);
+
+        return new Verdict(cfg.replaceWithAbbreviations(name, spans), abbreviated);
+    }
+
+    /**
+     * @return Number of lookups answered from the cache.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Number of lookups that computed a verdict.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Number of cached verdicts.
+     */
+    public int size() {
+        int size = 0;
+
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+
+        return size;
+    }
+
+    /** Removes all cached verdicts and resets counters. */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+
+        hits.reset();
+        misses.reset();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return "IgniteAbbreviationVerdictCache [size=" + size() + ", hits=" + hits() + ", misses=" + misses() + ']';
+    }
+
+    /**
+     * Result of an identifier check.
+     */
+    public static final class Verdict {
+        /** Verdict for identifiers without parts to abbreviate. */
+        public static final Verdict CLEAN = new Verdict(null, new String[0]);
+
+        /** Proposed name or {@code null} if the identifier is clean. */
+        @Nullable private final String newName;
+
+        /** Parts of the identifier that have abbreviations. */
+        private final String[] abbreviated;
+
+        /**
+         * @param newName Proposed name.
+         * @param abbreviated Parts of the identifier that have abbreviations.
+         */
+        private Verdict(@Nullable String newName, String[] abbreviated) {
+            this.newName = newName;
+            this.abbreviated = abbreviated;
+        }
+
+        /**
+         * @return Proposed name or {@code null} if the identifier is clean.
+         */
+        @Nullable public String newName() {
+            return newName;
+        }
+
+        /**
+         * @return Whether the identifier contains a part that should be abbreviated.
+         */
+        public boolean needsRename() {
+            return newName != null;
+        }
+
+        /**
+         * @param exceptions Parts that are allowed to stay unabbreviated.
+         * @return Whether the identifier contains a part that should be abbreviated and is not an exception.
+         */
+        public boolean needsRename(Set<String> exceptions) {
+            for (String part : abbreviated) {
+                if (!exceptions.contains(part))
+                    return true;
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Cached verdict.
+     */
+    private static final class Entry {
+        /** Version of the rules snapshot the verdict was computed with. */
+        private final long ver;
+
+        /** Verdict. */
+        private final Verdict verdict;
+
+        /**
+         * @param ver Version of the rules snapshot.
+         * @param verdict Verdict.
+         */
+        private Entry(long ver, Verdict verdict) {
+            this.ver = ver;
+            this.verdict = verdict;
+        }
+    }
+
+    /**
+     * Access ordered map that evicts the least recently used entry once the capacity is exceeded.
+     */
+    private static final class Stripe extends LinkedHashMap<String, Entry> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Maximum number of entries. */
+        private final int cap;
+
+        /**
+         * @param cap Maximum number of entries.
+         */
+        private Stripe(int cap) {
+            super(16, 0.75f, true);
+
+            this.cap = cap;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > cap;
+        }
+    }
+}
@@ -0,0 +1,414 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection.abbrev;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import com.intellij.codeInsight.FileModificationService;
+import com.intellij.codeInspection.CommonProblemDescriptor;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.QuickFix;
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.command.CommandProcessor;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnonymousClass;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiLocalVariable;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiNameHelper;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiResolveHelper;
+import com.intellij.psi.PsiVariable;
+import com.intellij.psi.search.LocalSearchScope;
+import com.intellij.psi.search.SearchScope;
+import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.refactoring.rename.RenameProcessor;
+import com.intellij.usageView.UsageInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Renames a set of elements as a single refactoring.
+ * <p>
+ * Usages of all elements are searched once, under a cancellable progress, name conflicts are reported together,
+ * and all edits are applied in one write action and one undoable command.
+ * <p>
+ * Java local variables, lambda, catch and loop parameters and parameters of methods that can not be overridden are
+ * renamed directly, by a reference search inside their declaration scope, without project-wide search and
+ * refactoring machinery. Such an element falls back to the refactoring if its new name may clash with another
+ * variable visible in the scope, including one the refactoring gives the same new name. If other elements are
+ * renamed by the refactoring, direct renames are applied together with it, so nothing changes when its dialogs are
+ * cancelled.
+ */
+public class IgniteBulkRename {
+    /** Logger. */
+    private static final Logger LOG = Logger.getInstance(IgniteBulkRename.class);
+
+    /** Default command name. */
+    private static final String CMD_NAME = "Use abbreviations";
+
+    /** Project. */
+    private final Project project;
+
+    /** New names of elements to rename, in order of addition. */
+    private final Map<PsiElement, String> renames = new LinkedHashMap<>();
+
+    /** Whether usages of elements renamed by the refactoring are shown for review before the rename. */
+    private boolean previewUsages;
+
+    /** Command name. */
+    private String cmdName = CMD_NAME;
+
+    /**
+     * @param project Project.
+     */
+    public IgniteBulkRename(@NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Adds an element to rename. The first name added for an element wins.
+     *
+     * @param elem Element to rename.
+     * @param newName New name.
+     */
+    public void add(@Nullable PsiElement elem, @NotNull String newName) {
+        if (elem != null && elem.isValid())
+            renames.putIfAbsent(elem, newName);
+    }
+
+    /**
+     * Adds targets of problem descriptors fixed by a rename fix.
+     *
+     * @param descriptors Problem descriptors.
+     * @param fixCls Rename fix class.
+     * @param target Function from the highlighted element to the element to rename.
+     * @param newName Function from the fix to the new name.
+     * @param <F> Rename fix type.
+     */
+    public <F extends QuickFix<?>> void addAll(CommonProblemDescriptor[] descriptors, Class<F> fixCls,
+        Function<PsiElement, PsiElement> target, Function<F, String> newName) {
+        for (CommonProblemDescriptor descriptor : descriptors) {
+            F fix = fix(descriptor, fixCls);
+
+            if (fix == null) {
+                LOG.warn("No rename fix found.");
+
+                continue;
+            }
+
+            PsiElement elem = descriptor instanceof ProblemDescriptor ?
+                ((ProblemDescriptor)descriptor).getPsiElement() : null;
+
+            if (elem != null)
+                add(target.apply(elem), newName.apply(fix));
+        }
+    }
+
+    /**
+     * @param previewUsages Whether usages of elements renamed by the refactoring are shown for review before the
+     *      rename. Local variables are renamed without preview.
+     * @return {@code this} for chaining.
+     */
+    public IgniteBulkRename previewUsages(boolean previewUsages) {
+        this.previewUsages = previewUsages;
+
+        return this;
+    }
+
+    /**
+     * @param cmdName Name of the undoable command.
+     * @return {@code this} for chaining.
+     */
+    public IgniteBulkRename commandName(@NotNull String cmdName) {
+        this.cmdName = cmdName;
+
+        return this;
+    }
+
+    /**
+     * @return Number of elements to rename.
+     */
+    public int size() {
+        return renames.size();
+    }
+
+    /**
+     * Renames all added elements. Must be called from the event dispatch thread outside of a write action.
+     */
+    public void run() {
+        if (renames.isEmpty())
+            return;
+
+        Map<PsiElement, PsiElement> localScopes = new LinkedHashMap<>();
+        Map<PsiElement, String> others = new LinkedHashMap<>();
+
+        for (Map.Entry<PsiElement, String> e : renames.entrySet()) {
+            PsiElement scope = localScope(e.getKey());
+
+            if (scope != null)
+                localScopes.put(e.getKey(), scope);
+            else
+                others.put(e.getKey(), e.getValue());
+        }
+
+        Map<PsiVariable, String> locals = new LinkedHashMap<>();
+
+        // A local that falls back to the refactoring may clash with a local accepted before it, so repeat until stable.
+        boolean fellBack;
+
+        do {
+            fellBack = false;
+
+            locals.clear();
+
+            for (Iterator<Map.Entry<PsiElement, PsiElement>> it = localScopes.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<PsiElement, PsiElement> e = it.next();
+
+                PsiVariable var = (PsiVariable)e.getKey();
+                String newName = renames.get(var);
+
+                if (hasLocalConflict(var, newName, e.getValue(), locals, localScopes, others)) {
+                    others.put(var, newName);
+
+                    it.remove();
+
+                    fellBack = true;
+                }
+                else
+                    locals.put(var, newName);
+            }
+        }
+        while (fellBack);
+
+        CommandProcessor.getInstance().executeCommand(project, () -> {
+            Runnable renameLocals =
+                !locals.isEmpty() && FileModificationService.getInstance().preparePsiElementsForWrite(locals.keySet()) ?
+                    () -> renameLocals(locals, localScopes) : null;
+
+            if (!others.isEmpty())
+                renameGlobally(others, renameLocals);
+            else if (renameLocals != null)
+                WriteAction.run(renameLocals::run);
+        }, cmdName, null);
+    }
+
+    /**
+     * @param renames New names of variables.
+     * @param scopes Declaration scopes of the variables.
+     */
+    private static void renameLocals(Map<PsiVariable, String> renames, Map<PsiElement, PsiElement> scopes) {
+        // Find all references before the first rename changes any text.
+        Map<PsiVariable, Collection<PsiReference>> refs = new LinkedHashMap<>();
+
+        for (PsiVariable var : renames.keySet()) {
+            PsiElement scope = scopes.get(var);
+
+            if (var.isValid() && scope.isValid())
+                refs.put(var, ReferencesSearch.search(var, new LocalSearchScope(scope)).findAll());
+        }
+
+        for (Map.Entry<PsiVariable, String> e : renames.entrySet()) {
+            PsiVariable var = e.getKey();
+
+            if (!var.isValid() || !refs.containsKey(var))
+                continue;
+
+            for (PsiReference ref : refs.get(var)) {
+                if (ref.getElement().isValid())
+                    ref.handleElementRename(e.getValue());
+            }
+
+            var.setName(e.getValue());
+        }
+    }
+
+    /**
+     * @param renames New names of elements.
+     * @param renameLocals Direct renames to apply in the write action of the refactoring, {@code null} if none.
+     */
+    private void renameGlobally(Map<PsiElement, String> renames, @Nullable Runnable renameLocals) {
+        Iterator<Map.Entry<PsiElement, String>> it = renames.entrySet().iterator();
+
+        Map.Entry<PsiElement, String> first = it.next();
+
+        RenameProcessor proc = new RenameProcessor(project, first.getKey(), first.getValue(), false, false) {
+            /** {@inheritDoc} */
+            @Override public void performRefactoring(UsageInfo @NotNull [] usages) {
+                super.performRefactoring(usages);
+
+                // Not reached if the conflicts or preview dialog is cancelled.
+                if (renameLocals != null)
+                    renameLocals.run();
+            }
+        };
+
+        while (it.hasNext()) {
+            Map.Entry<PsiElement, String> e = it.next();
+
+            proc.addElement(e.getKey(), e.getValue());
+        }
+
+        proc.setPreviewUsages(previewUsages);
+
+        if (renames.size() > 1)
+            proc.setCommandName(cmdName);
+
+        proc.run();
+    }
+
+    /**
+     * @param elem Element to rename.
+     * @return Scope that contains all references to the element if it can be renamed locally, {@code null} otherwise.
+     */
+    @Nullable private static PsiElement localScope(PsiElement elem) {
+        // Declaration scopes and overriding rules of other languages differ, e.g. a Scala class parameter is a field.
+        if (elem.getLanguage() != JavaLanguage.INSTANCE)
+            return null;
+
+        if (elem instanceof PsiLocalVariable) {
+            SearchScope useScope = elem.getUseScope();
+
+            return useScope instanceof LocalSearchScope && ((LocalSearchScope)useScope).getScope().length == 1 ?
+                ((LocalSearchScope)useScope).getScope()[0] : null;
+        }
+
+        if (!(elem instanceof PsiParameter))
+            return null;
+
+        PsiElement scope = ((PsiParameter)elem).getDeclarationScope();
+
+        // Lambda, catch, foreach and pattern variables.
+        if (!(scope instanceof PsiMethod))
+            return scope;
+
+        PsiMethod mtd = (PsiMethod)scope;
+
+        return isOverridable(mtd) ? null : mtd;
+    }
+
+    /**
+     * @param mtd Method.
+     * @return Whether the method can be overridden, so parameters of overriding methods may be renamed too.
+     */
+    private static boolean isOverridable(PsiMethod mtd) {
+        if (mtd.isConstructor() || mtd.hasModifierProperty(PsiModifier.PRIVATE) ||
+            mtd.hasModifierProperty(PsiModifier.STATIC) || mtd.hasModifierProperty(PsiModifier.FINAL))
+            return false;
+
+        PsiClass cls = mtd.getContainingClass();
+
+        return cls != null && !(cls instanceof PsiAnonymousClass) && !cls.hasModifierProperty(PsiModifier.FINAL) &&
+            !cls.isEnum() && !cls.isRecord();
+    }
+
+    /**
+     * @param var Variable to rename.
+     * @param newName New name.
+     * @param scope Declaration scope of the variable.
+     * @param accepted Variables already accepted for local rename.
+     * @param acceptedScopes Declaration scopes of the accepted variables.
+     * @param others New names of elements renamed by the refactoring.
+     * @return Whether the new name may clash with another variable visible in the scope.
+     */
+    private static boolean hasLocalConflict(PsiVariable var, String newName, PsiElement scope,
+        Map<PsiVariable, String> accepted, Map<PsiElement, PsiElement> acceptedScopes, Map<PsiElement, String> others) {
+        if (!PsiNameHelper.getInstance(var.getProject()).isIdentifier(newName))
+            return true;
+
+        PsiResolveHelper resolveHelper = JavaPsiFacade.getInstance(var.getProject()).getResolveHelper();
+
+        // Fields and outer locals that would be shadowed.
+        PsiVariable visible = resolveHelper.resolveReferencedVariable(newName, var);
+
+        if (visible != null && visible != var)
+            return true;
+
+        // Declarations inside the scope that would shadow the variable.
+        for (PsiVariable other : PsiTreeUtil.findChildrenOfType(scope, PsiVariable.class)) {
+            if (other != var && newName.equals(other.getName()))
+                return true;
+        }
+
+        // Variables renamed by the refactoring to the same name, e.g. a field mapped from another word, that would be
+        // shadowed once renamed.
+        for (Map.Entry<PsiElement, String> e : others.entrySet()) {
+            if (!newName.equals(e.getValue()) || !(e.getKey() instanceof PsiVariable))
+                continue;
+
+            PsiVariable other = (PsiVariable)e.getKey();
+
+            if (PsiTreeUtil.isAncestor(scope, other, true))
+                return true;
+
+            String name = other.getName();
+
+            if (name != null && resolveHelper.resolveReferencedVariable(name, var) == other)
+                return true;
+        }
+
+        // Variables of the same batch in overlapping scopes.
+        List<PsiVariable> sameName = new ArrayList<>();
+
+        for (Map.Entry<PsiVariable, String> e : accepted.entrySet()) {
+            if (newName.equals(e.getValue()))
+                sameName.add(e.getKey());
+        }
+
+        for (PsiVariable other : sameName) {
+            PsiElement otherScope = acceptedScopes.get(other);
+
+            if (PsiTreeUtil.isAncestor(scope, otherScope, false) || PsiTreeUtil.isAncestor(otherScope, scope, false))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param descriptor Problem descriptor.
+     * @param fixCls Fix class.
+     * @param <F> Fix type.
+     * @return Fix of the given class or {@code null} if the descriptor has no such fix.
+     */
+    @Nullable private static <F> F fix(CommonProblemDescriptor descriptor, Class<F> fixCls) {
+        QuickFix<?>[] fixes = descriptor.getFixes();
+
+        if (fixes == null)
+            return null;
+
+        for (QuickFix<?> fix : fixes) {
+            if (fixCls.isInstance(fix))
+                return fixCls.cast(fix);
+        }
+
+        return null;
+    }
+}
@@ -18,14 +18,11 @@
 package org.apache.ignite.idea.inspection.abbrev;
 
 import com.intellij.codeInspection.*;
-import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.PsiIdentifier;
 import com.intellij.psi.PsiNamedElement;
-import com.intellij.refactoring.JavaRefactoringFactory;
-import com.intellij.refactoring.RenameRefactoring;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.plugins.scala.lang.psi.api.ScalaElementVisitor;
@@ -33,11 +30,11 @@ import org.jetbrains.plugins.scala.lang.psi.api.statements.ScValue;
 import org.jetbrains.plugins.scala.lang.psi.api.statements.ScValueDeclaration;
 import org.jetbrains.plugins.scala.lang.psi.api.statements.params.ScParameter;
 import org.jetbrains.plugins.scala.lang.psi.api.statements.ScVariableDefinition;
-import org.apache.ignite.idea.util.IgniteUtils;
+import org.apache.ignite.idea.metrics.IgniteInspectionMetrics;
+import org.apache.ignite.idea.util.IgniteUtils.CamelCaseSpans;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 /** Inspects usages of Ignite abbreviations. */
@@ -47,7 +44,17 @@ public class IgniteScalaAbbreviationInspection extends LocalInspectionTool {
 
     /** {@inheritDoc} */
     @Override public PsiElementVisitor buildVisitor(ProblemsHolder holder, boolean isOnTheFly, LocalInspectionToolSession ses) {
-        return new ScalaElementVisitor() {
+        IgniteAbbreviationConfig svc = holder.getProject().getService(IgniteAbbreviationConfig.class);
+
+        // Rules snapshot is taken once per file.
+        IgniteAbbreviationConfig.Config cfg = svc.getConfig();
+
+        IgniteAbbreviationVerdictCache verdicts = svc.getVerdictCache();
+
+        PsiElementVisitor visitor = new ScalaElementVisitor() {
+            /** Reusable name parts buffer. */
+            private final CamelCaseSpans spans = new CamelCaseSpans();
+
             /** {@inheritDoc} */
             @Override public void visitValueDeclaration(ScValueDeclaration v) {
                 Arrays.stream(v.declaredElementsArray()).forEach(this::checkShouldAbbreviate);
@@ -74,7 +81,7 @@ public class IgniteScalaAbbreviationInspection extends LocalInspectionTool {
              * @param elem Element to check and rename.
              */
             private void checkShouldAbbreviate(PsiNamedElement elem) {
-                check0(IgniteUtils.camelCaseParts(elem.getName()), elem);
+                check0(elem.getName(), elem);
             }
 
             /**
@@ -83,35 +90,40 @@ public class IgniteScalaAbbreviationInspection extends LocalInspectionTool {
              * @param elem Element to check and rename.
              */
             private void checkShouldAbbreviate(PsiElement elem, PsiIdentifier id) {
-                check0(IgniteUtils.camelCaseParts(id.getText()), elem);
+                check0(id.getText(), elem);
             }
 
             /**
              * Checks that all identifier parts are correctly abbreviated. Registers problem if needed.
              *
-             * @param parts Identifier parts.
+             * @param name Identifier.
              * @param elem Checked identifier element.
              */
-            private void check0(List<String> parts, PsiElement elem) {
-                for (String part : parts) {
-                    IgniteAbbreviationConfig cfg = elem.getProject().getService(IgniteAbbreviationConfig.class);
+            private void check0(String name, PsiElement elem) {
+                if (name == null)
+                    return;
 
-                    if (!abbrExceptions.contains(part) && cfg.getAbbreviation(part) != null) {
-                        holder.registerProblem(elem, "Abbreviation should be used",
-                            new RenameToFix(cfg.replaceWithAbbreviations(parts)));
+                IgniteAbbreviationVerdictCache.Verdict verdict = verdicts.verdict(cfg, name, spans);
 
-                        return;
-                    }
-                }
+                if (verdict.needsRename(abbrExceptions))
+                    holder.registerProblem(elem, "Abbreviation should be used", new RenameToFix(verdict.newName()));
             }
         };
+
+        if (!IgniteInspectionMetrics.isInstrumented())
+            return visitor;
+
+        return IgniteInspectionMetrics.getInstance().instrument(getShortName(), ses, visitor);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void inspectionFinished(@NotNull LocalInspectionToolSession ses,
+        @NotNull ProblemsHolder problemsHolder) {
+        IgniteInspectionMetrics.getInstance().finished(getShortName(), ses);
     }
 
     /** Rename quick fix. */
     private static class RenameToFix implements LocalQuickFix, BatchQuickFix {
-        /** Logger. */
-        private static final Logger LOG = Logger.getInstance(RenameToFix.class);
-
         /** */
         private final String name;
 
@@ -140,34 +152,23 @@ public class IgniteScalaAbbreviationInspection extends LocalInspectionTool {
         /** {@inheritDoc} */
         @Override public void applyFix(@NotNull Project project, CommonProblemDescriptor[] descriptors,
             @NotNull List<PsiElement> psiElementsToIgnore, @Nullable Runnable refreshViews) {
-            for (CommonProblemDescriptor descriptor : descriptors) {
-                QuickFix[] fixes = descriptor.getFixes();
+            IgniteBulkRename rename = new IgniteBulkRename(project);
 
-                if (fixes == null || fixes.length == 0) {
-                    LOG.warn("No fixes found.");
-                    continue;
-                }
+            rename.addAll(descriptors, RenameToFix.class, elem -> elem, fix -> fix.name);
 
-                Optional<QuickFix> renameFix = Arrays.stream(fixes)
-                    .filter(RenameToFix.class::isInstance)
-                    .findAny();
+            rename.run();
 
-                if (renameFix.isEmpty()) {
-                    LOG.warn("No rename fix found.");
-                    continue;
-                }
-
-                renameFix.get().applyFix(project, descriptor);
-            }
+            if (refreshViews != null)
+                refreshViews.run();
         }
 
         /** {@inheritDoc} */
         @Override public void applyFix(Project proj, ProblemDescriptor descr) {
-            PsiElement element = descr.getPsiElement();
+            IgniteBulkRename rename = new IgniteBulkRename(proj);
+
+            rename.add(descr.getPsiElement(), name);
 
-            JavaRefactoringFactory factory = JavaRefactoringFactory.getInstance(proj);
-            RenameRefactoring renRefactoring = factory.createRename(element, name, false, false);
-            renRefactoring.run();
+            rename.run();
         }
     }
 }
@@ -17,35 +17,79 @@
 
 package org.apache.ignite.idea.inspection.comment;
 
-import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
 import com.intellij.codeInspection.LocalQuickFix;
 import com.intellij.codeInspection.ProblemDescriptor;
 import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.openapi.project.Project;
+import com.intellij.psi.CommonClassNames;
 import com.intellij.psi.JavaElementVisitor;
 import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiDocCommentOwner;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementFactory;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiIdentifier;
+import com.intellij.psi.PsiJavaFile;
 import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiParameter;
+import com.intellij.psi.impl.source.PostprocessReformattingAspect;
 import com.intellij.psi.impl.source.tree.JavaElementType;
 import com.intellij.psi.impl.source.tree.java.PsiTypeParameterImpl;
 import com.intellij.psi.javadoc.PsiDocComment;
 import com.intellij.psi.util.PsiTreeUtil;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import org.apache.ignite.idea.inspection.IgniteAnnotationInspection;
+import org.apache.ignite.idea.inspection.IgniteInspectionSettings;
+import org.apache.ignite.idea.inspection.IgniteJavaInspectionTool;
+import org.apache.ignite.idea.inspection.IgniteStyleInspection;
 import org.apache.ignite.idea.inspection.abbrev.IgniteAbbreviationConfig;
+import org.apache.ignite.idea.util.IgniteOverrideIndex;
 import org.apache.ignite.idea.util.IgniteUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Inspection that searches for uncommented fields, methods,
  * and classes, and displays warnings for them.
+ * <p>
+ * Super methods are searched to offer {@code {@inheritDoc}} only in full checks, see
+ * {@link IgniteJavaInspectionTool#isFullCheck(ProblemsHolder, boolean)}. While a file is being edited, a method is
+ * taken as an override if it is annotated with {@code @Override}.
+ * <p>
+ * If a file in an editor has more members without comments than
+ * {@link IgniteInspectionSettings.Options#maxCommentProblems}, a single problem is reported for the file with a fix
+ * that documents all of them at once.
+ * <p>
+ * Fixes are shared by all problems and hold no PSI: a fix finds its member by the element of the problem descriptor
+ * when it is applied.
  */
-public class IgniteCommentInspection extends AbstractBaseJavaLocalInspectionTool {
+public class IgniteCommentInspection extends IgniteJavaInspectionTool {
+    /** Comment of overriding methods. */
+    private static final String INHERIT_DOC = "/** {@inheritDoc} */";
+
+    /** Fix of a file with too many members without comments. */
+    private static final LocalQuickFix DOCUMENT_ALL = new DocumentAllFix();
+
+    /** Fix that adds an empty comment to a field. */
+    private static final LocalQuickFix EMPTY_COMMENT = new EmptyCommentFix();
+
+    /** Fix that adds a default comment to a field, constructor or method. */
+    private static final LocalQuickFix DEFAULT_COMMENT = new DefaultCommentFix();
+
+    /** Fix that adds {@code {@inheritDoc}} to a method. */
+    private static final LocalQuickFix INHERIT_DOC_FIX = new InheritDocFix();
+
+    /** Fix that adds {@code {@inheritDoc}} to all overriding methods of a class. */
+    private static final LocalQuickFix INHERIT_DOC_ALL = new InheritDocAllFix();
+
     /** {@inheritDoc} */
     @NotNull @Override public String getShortName() {
         return "CommentAbsent";
@@ -60,7 +104,20 @@ public class IgniteCommentInspection extends AbstractBaseJavaLocalInspectionTool
     @NotNull @Override public PsiElementVisitor buildVisitor(@NotNull final ProblemsHolder holder,
         final boolean isOnTheFly) {
 
-        final IgniteAbbreviationConfig config = holder.getProject().getService(IgniteAbbreviationConfig.class);
+        if (IgniteStyleInspection.isDelegated(holder))
+            return PsiElementVisitor.EMPTY_VISITOR;
+
+        final boolean full = isFullCheck(holder, isOnTheFly);
+
+        int maxProblems = IgniteInspectionSettings.getInstance().getState().maxCommentProblems;
+
+        // One problem for the whole file instead of a highlight with fixes per member.
+        if (isOnTheFly && maxProblems > 0 && undocumented(holder.getFile(), maxProblems + 1).size() > maxProblems) {
+            holder.registerProblem(holder.getFile(),
+                getDisplayName() + " for more than " + maxProblems + " members", DOCUMENT_ALL);
+
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
 
         return new JavaElementVisitor() {
             /** {@inheritDoc} */
@@ -74,46 +131,8 @@ public class IgniteCommentInspection extends AbstractBaseJavaLocalInspectionTool
                 if (isAnonymousClass(cls))
                     return;
 
-                if (!hasComment(field)) {
-                    holder.registerProblem(
-                        field.getNameIdentifier(),
-                        getDisplayName(),
-                        new LocalQuickFix() {
-                            @NotNull @Override public String getName() {
-                                return "Add empty comment";
-                            }
-
-                            @NotNull @Override public String getFamilyName() {
-                                return "";
-                            }
-
-                            @Override public void applyFix(@NotNull Project project,
-                                @NotNull ProblemDescriptor desc) {
-                                PsiElementFactory factory = JavaPsiFacade.getInstance(project).getElementFactory();
-
-                                field.addBefore(factory.createDocCommentFromText("/** */"), field.getModifierList());
-                            }
-                        },
-                        new LocalQuickFix() {
-                            @NotNull @Override public String getName() {
-                                return "Add default comment";
-                            }
-
-                            @NotNull @Override public String getFamilyName() {
-                                return "";
-                            }
-
-                            @Override public void applyFix(@NotNull Project project,
-                                @NotNull ProblemDescriptor descriptor) {
-                                PsiElementFactory factory = JavaPsiFacade.getInstance(project).getElementFactory();
-
-                                field.addBefore(
-                                    factory.createDocCommentFromText(
-                                        "/** " + camelCaseToTextUnwrapAbbrev(config, field.getName()) + ". */"),
-                                    field.getModifierList());
-                            }
-                        });
-                }
+                if (!hasComment(field))
+                    holder.registerProblem(field.getNameIdentifier(), getDisplayName(), EMPTY_COMMENT, DEFAULT_COMMENT);
             }
 
             /** {@inheritDoc} */
@@ -137,144 +156,16 @@ public class IgniteCommentInspection extends AbstractBaseJavaLocalInspectionTool
                     if (isAnonymousClass(cls))
                         return;
 
-                    LocalQuickFix[] fix = null;
+                    LocalQuickFix[] fix;
 
                     // If method is a constructor, we can generate default comment.
-                    if (mtd.isConstructor()) {
-                        fix = new LocalQuickFix[] {
-                            new LocalQuickFix() {
-                                @NotNull @Override public String getName() {
-                                    return "Add default comment";
-                                }
-
-                                @NotNull @Override public String getFamilyName() {
-                                    return "";
-                                }
-
-                                @Override public void applyFix(@NotNull Project project,
-                                    @NotNull ProblemDescriptor descriptor) {
-                                    if (!mtd.isValid())
-                                        return;
-
-                                    StringBuilder sb = new StringBuilder("/**\n");
-
-                                    PsiParameter[] params = mtd.getParameterList().getParameters();
-
-                                    if (params.length > 0) {
-                                        for (PsiParameter param : params)
-                                            sb.append("* @param ").append(param.getName()).append(' ')
-                                                .append(camelCaseToTextUnwrapAbbrev(config, param.getName())).append(".\n");
-                                    }
-                                    else
-                                        sb.append("* Default constructor")
-                                            .append(isExternalizable(cls) ? " (required by Externalizable)" : "")
-                                            .append(".\n");
-
-                                    sb.append("*/");
-
-                                    PsiElementFactory factory = JavaPsiFacade.getInstance(project).getElementFactory();
-
-                                    mtd.addBefore(
-                                        factory.createDocCommentFromText(sb.toString()),
-                                        mtd.getModifierList());
-                                }
-
-                                private boolean isExternalizable(PsiClass cls) {
-                                    for (PsiClass iface : cls.getInterfaces()) {
-                                        if ("java.io.Externalizable".equals(iface.getQualifiedName()))
-                                            return true;
-                                    }
-
-                                    return false;
-                                }
-                            }
-                        };
-                    }
+                    if (mtd.isConstructor())
+                        fix = new LocalQuickFix[] {DEFAULT_COMMENT};
                     // If there is a super method, we can apply {@inheritDoc} fix.
-                    else if (mtd.findSuperMethods().length > 0) {
-                        fix = new LocalQuickFix[] {
-                            new LocalQuickFix() {
-                                @NotNull @Override public String getName() {
-                                    return "Add /** {@inheritDoc} */";
-                                }
-
-                                @NotNull @Override public String getFamilyName() {
-                                    return "";
-                                }
-
-                                @Override public void applyFix(@NotNull Project project,
-                                    @NotNull ProblemDescriptor descriptor) {
-                                    addInheritDoc(mtd, JavaPsiFacade.getInstance(project).getElementFactory());
-                                }
-                            },
-                            new LocalQuickFix() {
-                                @NotNull @Override public String getName() {
-                                    return "Add /** {@inheritDoc} */ for all overridden/implemented methods";
-                                }
-
-                                @NotNull @Override public String getFamilyName() {
-                                    return "";
-                                }
-
-                                @Override public void applyFix(@NotNull Project project,
-                                    @NotNull ProblemDescriptor descriptor) {
-                                    PsiElementFactory factory =
-                                        JavaPsiFacade.getInstance(project).getElementFactory();
-
-                                    for (PsiMethod mtd0 : cls.getMethods()) {
-                                        if (mtd0 == mtd ||
-                                            (!hasComment(mtd0) && mtd0.findSuperMethods().length > 0))
-                                            addInheritDoc(mtd0, factory);
-                                    }
-                                }
-                            }
-                        };
-                    }
-                    else {
-                        fix = new LocalQuickFix[] {
-                            new LocalQuickFix() {
-                                @NotNull @Override public String getName() {
-                                    return "Add default comment";
-                                }
-
-                                @NotNull @Override public String getFamilyName() {
-                                    return "";
-                                }
-
-                                @Override public void applyFix(@NotNull Project project,
-                                    @NotNull ProblemDescriptor desc) {
-                                    StringBuilder sb = new StringBuilder("/**\n");
-
-                                    PsiParameter[] params = mtd.getParameterList().getParameters();
-
-                                    if (params.length > 0) {
-                                        for (PsiParameter param : params)
-                                            sb.append("* @param ").append(param.getName()).append(' ')
-                                                .append(camelCaseToTextUnwrapAbbrev(config, param.getName()))
-                                                .append(".\n");
-                                    }
-                                    else
-                                        sb.append("*\n");
-
-//                                    PsiType returnType = mtd.getReturnType();
-//
-//                                    if (!returnType.equalsToText("void")) {
-//                                        sb.append("* @return ")
-//                                            .append(camelCaseToTextUnwrapAbbrev(returnType.getCanonicalText()))
-//                                            .append(".\n");
-//                                    }
-
-                                    sb.append("*/");
-
-                                    PsiElementFactory factory = JavaPsiFacade.getInstance(project).getElementFactory();
-
-                                    mtd.addBefore(
-                                        factory.createDocCommentFromText(sb.toString()),
-                                        mtd.getModifierList());
-                                }
-                            }
-                        };
-                    }
+                    else if (full ? IgniteOverrideIndex.isOverride(mtd) : hasOverrideAnnotation(mtd))
+                        fix = new LocalQuickFix[] {INHERIT_DOC_FIX, INHERIT_DOC_ALL};
+                    else
+                        fix = new LocalQuickFix[] {DEFAULT_COMMENT};
 
                     holder.registerProblem(mtdNameId, getDisplayName(), fix);
                 }
@@ -289,65 +180,394 @@ public class IgniteCommentInspection extends AbstractBaseJavaLocalInspectionTool
             }
 
             /**
-             * Checks if element does have a comment.
+             * Checks without resolve if a method is annotated with {@code @Override}.
              *
-             * @param elem Element to check.
-             * @return {@code true} if element has a comment, {@code false} otherwise.
+             * @param mtd Method to check.
+             * @return {@code true} if the method has the annotation.
              */
-            private boolean hasComment(PsiDocCommentOwner elem) {
-                PsiDocComment comment = elem.getDocComment();
+            private boolean hasOverrideAnnotation(PsiMethod mtd) {
+                for (PsiAnnotation ann : mtd.getModifierList().getAnnotations()) {
+                    if (IgniteAnnotationInspection.isAnnotation(ann, CommonClassNames.JAVA_LANG_OVERRIDE, true))
+                        return true;
+                }
 
-                return comment != null && comment.getText() != null && !comment.getText().isEmpty();
+                return false;
             }
+        };
+    }
 
-            /**
-             * Checks if a class is anonymous.
-             *
-             * @param cls Class to check.
-             * @return {@code true} if class is anonymous, {@code false}
-             *         otherwise.
-             */
-            private boolean isAnonymousClass(PsiClass cls) {
-                if (cls.getNameIdentifier() == null && cls.getNode().getElementType() !=
-                    JavaElementType.ENUM_CONSTANT_INITIALIZER)
-                    return true;
+    /**
+     * Finds members of a file that have no comments, in the order of declaration of their classes.
+     *
+     * @param file File.
+     * @param limit Maximal number of members to find.
+     * @return Members without comments, classes included.
+     */
+    static List<PsiDocCommentOwner> undocumented(PsiFile file, int limit) {
+        List<PsiDocCommentOwner> res = new ArrayList<>();
 
-                PsiMember parent = PsiTreeUtil.getParentOfType(cls, PsiClass.class, PsiMember.class);
+        if (file instanceof PsiJavaFile) {
+            for (PsiClass cls : ((PsiJavaFile)file).getClasses())
+                undocumented(cls, limit, res);
+        }
 
-                return parent != null && !(parent instanceof PsiClass); // Classes inside method or field initializer.
-            }
+        return res;
+    }
 
-            /**
-             * Adds an inheritDoc comment to a method.
-             *
-             * @param mtd Method to add comment to.
-             * @param factory PSI element factory.
-             */
-            private void addInheritDoc(PsiMethod mtd, PsiElementFactory factory) {
-                mtd.addBefore(
-                    factory.createDocCommentFromText("/** {@inheritDoc} */"),
-                    mtd.getModifierList());
+    /**
+     * @param cls Class.
+     * @param limit Maximal number of members to find.
+     * @param res Members without comments.
+     */
+    private static void undocumented(PsiClass cls, int limit, List<PsiDocCommentOwner> res) {
+        if (cls.getNameIdentifier() != null && !hasComment(cls))
+            res.add(cls);
+
+        for (PsiField field : cls.getFields()) {
+            if (res.size() >= limit)
+                return;
+
+            // Bodies of enum constants are anonymous classes, their members are not reported.
+            if (field.isPhysical() && !hasComment(field))
+                res.add(field);
+        }
+
+        for (PsiMethod mtd : cls.getMethods()) {
+            if (res.size() >= limit)
+                return;
+
+            if (mtd.isPhysical() && mtd.getNameIdentifier() != null && !hasComment(mtd))
+                res.add(mtd);
+        }
+
+        for (PsiClass inner : cls.getInnerClasses()) {
+            if (res.size() >= limit)
+                return;
+
+            undocumented(inner, limit, res);
+        }
+    }
+
+    /**
+     * Adds comments to all members of a file that have none. Must be called inside a write action.
+     *
+     * @param project Project.
+     * @param file File.
+     */
+    static void documentAll(Project project, PsiFile file) {
+        IgniteAbbreviationConfig.Config cfg = project.getService(IgniteAbbreviationConfig.class).getConfig();
+
+        List<PsiDocCommentOwner> members = undocumented(file, Integer.MAX_VALUE);
+
+        // Texts first: every added comment drops the cached overrides of a class.
+        List<String> comments = new ArrayList<>(members.size());
+
+        for (PsiDocCommentOwner member : members)
+            comments.add(defaultComment(cfg, member));
+
+        PsiElementFactory factory = JavaPsiFacade.getInstance(project).getElementFactory();
+
+        // Added comments are formatted in one pass when the outermost postponed block is done.
+        PostprocessReformattingAspect.getInstance(project).postponeFormattingInside(() -> {
+            for (int i = 0; i < members.size(); i++) {
+                PsiDocCommentOwner member = members.get(i);
+
+                member.addBefore(factory.createDocCommentFromText(comments.get(i)), member.getModifierList());
             }
-        };
+        });
+    }
+
+    /**
+     * @param cfg Abbreviation rules.
+     * @param member Member without comment.
+     * @return Default comment of the member.
+     */
+    private static String defaultComment(IgniteAbbreviationConfig.Config cfg, PsiDocCommentOwner member) {
+        if (member instanceof PsiField)
+            return fieldComment(cfg, (PsiField)member);
+
+        if (member instanceof PsiMethod) {
+            PsiMethod mtd = (PsiMethod)member;
+
+            if (mtd.isConstructor())
+                return constructorComment(cfg, mtd, mtd.getContainingClass());
+
+            return IgniteOverrideIndex.isOverride(mtd) ? INHERIT_DOC : methodComment(cfg, mtd);
+        }
+
+        return "/**\n*\n*/";
+    }
+
+    /**
+     * @param cfg Abbreviation rules.
+     * @param field Field.
+     * @return Default comment of the field.
+     */
+    private static String fieldComment(IgniteAbbreviationConfig.Config cfg, PsiField field) {
+        return "/** " + camelCaseToTextUnwrapAbbrev(cfg, field.getName()) + ". */";
+    }
+
+    /**
+     * @param cfg Abbreviation rules.
+     * @param mtd Constructor.
+     * @param cls Class of the constructor.
+     * @return Default comment of the constructor.
+     */
+    private static String constructorComment(IgniteAbbreviationConfig.Config cfg, PsiMethod mtd, PsiClass cls) {
+        StringBuilder sb = new StringBuilder("/**\n");
+
+        PsiParameter[] params = mtd.getParameterList().getParameters();
+
+        if (params.length > 0) {
+            for (PsiParameter param : params)
+                sb.append("* @param ").append(param.getName()).append(' ')
+                    .append(camelCaseToTextUnwrapAbbrev(cfg, param.getName())).append(".\n");
+        }
+        else
+            sb.append("* Default constructor")
+                .append(cls != null && isExternalizable(cls) ? " (required by Externalizable)" : "")
+                .append(".\n");
+
+        return sb.append("*/").toString();
+    }
+
+    /**
+     * @param cfg Abbreviation rules.
+     * @param mtd Method.
+     * @return Default comment of the method.
+     */
+    private static String methodComment(IgniteAbbreviationConfig.Config cfg, PsiMethod mtd) {
+        StringBuilder sb = new StringBuilder("/**\n");
+
+        PsiParameter[] params = mtd.getParameterList().getParameters();
+
+        if (params.length > 0) {
+            for (PsiParameter param : params)
+                sb.append("* @param ").append(param.getName()).append(' ')
+                    .append(camelCaseToTextUnwrapAbbrev(cfg, param.getName()))
+                    .append(".\n");
+        }
+        else
+            sb.append("*\n");
+
+        return sb.append("*/").toString();
+    }
+
+    /**
+     * @param cls Class.
+     * @return Whether the class directly implements {@link java.io.Externalizable}.
+     */
+    private static boolean isExternalizable(PsiClass cls) {
+        for (PsiClass iface : cls.getInterfaces()) {
+            if ("java.io.Externalizable".equals(iface.getQualifiedName()))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if element does have a comment.
+     *
+     * @param elem Element to check.
+     * @return {@code true} if element has a comment, {@code false} otherwise.
+     */
+    private static boolean hasComment(PsiDocCommentOwner elem) {
+        PsiDocComment comment = elem.getDocComment();
+
+        return comment != null && comment.getText() != null && !comment.getText().isEmpty();
+    }
+
+    /**
+     * Checks if a class is anonymous.
+     *
+     * @param cls Class to check.
+     * @return {@code true} if class is anonymous, {@code false}
+     *         otherwise.
+     */
+    private static boolean isAnonymousClass(PsiClass cls) {
+        if (cls.getNameIdentifier() == null && cls.getNode().getElementType() !=
+            JavaElementType.ENUM_CONSTANT_INITIALIZER)
+            return true;
+
+        PsiMember parent = PsiTreeUtil.getParentOfType(cls, PsiClass.class, PsiMember.class);
+
+        return parent != null && !(parent instanceof PsiClass); // Classes inside method or field initializer.
+    }
+
+    /**
+     * Adds an inheritDoc comment to a method.
+     *
+     * @param mtd Method to add comment to.
+     * @param factory PSI element factory.
+     */
+    private static void addInheritDoc(PsiMethod mtd, PsiElementFactory factory) {
+        mtd.addBefore(factory.createDocCommentFromText(INHERIT_DOC), mtd.getModifierList());
+    }
+
+    /**
+     * @param descriptor Problem on the name of a member.
+     * @return Member or {@code null} if the problem element is gone.
+     */
+    @Nullable private static PsiDocCommentOwner member(ProblemDescriptor descriptor) {
+        PsiElement elem = descriptor.getPsiElement();
+
+        return elem == null ? null : PsiTreeUtil.getParentOfType(elem, PsiDocCommentOwner.class, false);
     }
 
     /**
      * Converts camel case to simple text, unwrapping abbreviations.
      *
+     * @param cfg Abbreviation rules.
      * @param camelCase Camel case string.
      * @return Resulting text.
      */
-    private String camelCaseToTextUnwrapAbbrev(final IgniteAbbreviationConfig cfg, String camelCase) {
-        return IgniteUtils.transformCamelCase(camelCase, new IgniteUtils.Closure2<String, Integer, String>() {
-            @Override public String apply(String part, Integer idx) {
-                if ("_".equals(part))
-                    return "";
+    public static String camelCaseToTextUnwrapAbbrev(final IgniteAbbreviationConfig.Config cfg, String camelCase) {
+        return IgniteUtils.transformCamelCase(camelCase, (s, start, end, idx, out) -> {
+            if (IgniteUtils.isChar(s, start, end, '_'))
+                return;
 
-                String unw = cfg.getUnwrapping(part);
-                String ret = unw != null ? unw : part;
+            if (idx > 0)
+                out.append(' ');
 
-                return idx == 0 ? IgniteUtils.capitalizeFirst(ret.toLowerCase()) : " " + ret.toLowerCase();
-            }
+            String unw = cfg.getUnwrapping(s, start, end - start);
+
+            if (unw != null)
+                IgniteUtils.appendLowerCase(out, unw, 0, unw.length(), idx == 0);
+            else
+                IgniteUtils.appendLowerCase(out, s, start, end, idx == 0);
         });
     }
+
+    /**
+     * Adds default comments to all members of a file that have none.
+     */
+    private static class DocumentAllFix implements LocalQuickFix {
+        /** {@inheritDoc} */
+        @NotNull @Override public String getFamilyName() {
+            return "Document all members";
+        }
+
+        /** {@inheritDoc} */
+        @Override public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiElement elem = descriptor.getPsiElement();
+
+            if (elem != null)
+                documentAll(project, elem.getContainingFile());
+        }
+    }
+
+    /**
+     * Adds an empty comment to a field.
+     */
+    private static class EmptyCommentFix implements LocalQuickFix {
+        /** {@inheritDoc} */
+        @NotNull @Override public String getFamilyName() {
+            return "Add empty comment";
+        }
+
+        /** {@inheritDoc} */
+        @Override public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiDocCommentOwner member = member(descriptor);
+
+            if (!(member instanceof PsiField))
+                return;
+
+            PsiElementFactory factory = JavaPsiFacade.getInstance(project).getElementFactory();
+
+            member.addBefore(factory.createDocCommentFromText("/** */"), member.getModifierList());
+        }
+    }
+
+    /**
+     * Adds a default comment to a field, constructor or method.
+     */
+    private static class DefaultCommentFix implements LocalQuickFix {
+        /** {@inheritDoc} */
+        @NotNull @Override public String getFamilyName() {
+            return "Add default comment";
+        }
+
+        /** {@inheritDoc} */
+        @Override public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiDocCommentOwner member = member(descriptor);
+
+            if (!(member instanceof PsiField) && !(member instanceof PsiMethod))
+                return;
+
+            IgniteAbbreviationConfig.Config cfg = project.getService(IgniteAbbreviationConfig.class).getConfig();
+
+            String comment;
+
+            if (member instanceof PsiField)
+                comment = fieldComment(cfg, (PsiField)member);
+            else if (((PsiMethod)member).isConstructor())
+                comment = constructorComment(cfg, (PsiMethod)member, member.getContainingClass());
+            else
+                comment = methodComment(cfg, (PsiMethod)member);
+
+            PsiElementFactory factory = JavaPsiFacade.getInstance(project).getElementFactory();
+
+            member.addBefore(factory.createDocCommentFromText(comment), member.getModifierList());
+        }
+    }
+
+    /**
+     * Adds {@code {@inheritDoc}} to a method.
+     */
+    private static class InheritDocFix implements LocalQuickFix {
+        /** {@inheritDoc} */
+        @NotNull @Override public String getFamilyName() {
+            return "Add " + INHERIT_DOC;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiDocCommentOwner member = member(descriptor);
+
+            if (member instanceof PsiMethod)
+                addInheritDoc((PsiMethod)member, JavaPsiFacade.getInstance(project).getElementFactory());
+        }
+    }
+
+    /**
+     * Adds {@code {@inheritDoc}} to a method and all other overriding methods of its class that have no comments.
+     */
+    private static class InheritDocAllFix implements LocalQuickFix {
+        /** {@inheritDoc} */
+        @NotNull @Override public String getFamilyName() {
+            return "Add " + INHERIT_DOC + " for all overridden/implemented methods";
+        }
+
+        /** {@inheritDoc} */
+        @Override public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiDocCommentOwner member = member(descriptor);
+
+            if (!(member instanceof PsiMethod) || member.getContainingClass() == null)
+                return;
+
+            PsiElementFactory factory = JavaPsiFacade.getInstance(project).getElementFactory();
+
+            // Collect first: every added comment drops the cached overrides of the class.
+            List<PsiMethod> mtds = new ArrayList<>();
+
+            Set<PsiMethod> overriding = IgniteOverrideIndex.overriding(member.getContainingClass());
+
+            for (PsiMethod mtd : overriding) {
+                if (!hasComment(mtd))
+                    mtds.add(mtd);
+            }
+
+            // The method may be offered the fix by its @Override annotation only, it is added if it really overrides.
+            if (!overriding.contains(member) && !hasComment(member) &&
+                ((PsiMethod)member).findSuperMethods().length > 0)
+                mtds.add((PsiMethod)member);
+
+            // Keep the order of declarations.
+            mtds.sort(Comparator.comparingInt(PsiMethod::getTextOffset));
+
+            for (PsiMethod mtd : mtds)
+                addInheritDoc(mtd, factory);
+        }
+    }
 }
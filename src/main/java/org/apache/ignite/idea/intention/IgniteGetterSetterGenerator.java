@@ -17,7 +17,11 @@
 
 package org.apache.ignite.idea.intention;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import com.intellij.codeInsight.intention.IntentionAction;
 import com.intellij.codeInsight.intention.PsiElementBaseIntentionAction;
 import com.intellij.openapi.editor.Editor;
@@ -39,12 +43,15 @@ import com.intellij.psi.javadoc.PsiDocToken;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.IncorrectOperationException;
 import org.apache.ignite.idea.inspection.abbrev.IgniteAbbreviationConfig;
+import org.apache.ignite.idea.util.IgniteAccessorIndex;
 import org.apache.ignite.idea.util.IgniteUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import static org.apache.ignite.idea.util.IgniteUtils.Closure2;
+import static org.apache.ignite.idea.util.IgniteUtils.appendCapitalized;
+import static org.apache.ignite.idea.util.IgniteUtils.appendLowerCase;
 import static org.apache.ignite.idea.util.IgniteUtils.capitalizeFirst;
+import static org.apache.ignite.idea.util.IgniteUtils.isChar;
 import static org.apache.ignite.idea.util.IgniteUtils.transformCamelCase;
 import static org.apache.ignite.idea.util.IgniteUtils.unCapitalizeFirst;
 
@@ -116,32 +123,47 @@ public class IgniteGetterSetterGenerator extends PsiElementBaseIntentionAction i
         if (psiCls == null)
             return false;
 
-        PsiElementFactory psiFactory = JavaPsiFacade.getInstance(project).getElementFactory();
+        return isAvailable(project.getService(IgniteAbbreviationConfig.class).getConfig(), psiCls, psiField);
+    }
 
-        boolean ret = true;
+    /**
+     * Finds fields of a class that have no accessors to generate yet. Must be called inside a read action, it is
+     * safe to call it in a background thread.
+     *
+     * @param project Project.
+     * @param psiCls Class.
+     * @return Fields, in the order of declaration.
+     */
+    public List<PsiField> availableFields(@NotNull Project project, @NotNull PsiClass psiCls) {
+        IgniteAbbreviationConfig.Config abbreviationConfig =
+            project.getService(IgniteAbbreviationConfig.class).getConfig();
 
-        if (genGetter)
-            ret = psiCls.findMethodBySignature(
-                psiFactory.createMethod(psiField.getName(), psiField.getType()),
-                true
-            ) == null;
+        List<PsiField> res = new ArrayList<>();
 
-        if (ret && genSetter) {
-            PsiModifierList psiFieldModifiers = psiField.getModifierList();
+        for (PsiField psiField : psiCls.getFields()) {
+            if (isAvailable(abbreviationConfig, psiCls, psiField))
+                res.add(psiField);
+        }
 
-            // If field is not final.
-            if (psiFieldModifiers == null || !psiFieldModifiers.hasExplicitModifier("final")) {
-                PsiMethod mtd = psiFactory.createMethod(psiField.getName(), PsiType.VOID);
+        return res;
+    }
 
-                mtd.getParameterList().add(psiFactory.createParameter(psiField.getName(), psiField.getType()));
+    /**
+     * @param cfg Abbreviation rules.
+     * @param psiCls Class.
+     * @param psiField Field of the class.
+     * @return Whether none of the accessors to generate exists in the class or its supers.
+     */
+    private boolean isAvailable(IgniteAbbreviationConfig.Config cfg, PsiClass psiCls, PsiField psiField) {
+        String methodName = methodName(cfg, psiField.getName());
 
-                ret = psiCls.findMethodBySignature(mtd, true) == null;
-            }
-            else
-                ret = false;
-        }
+        if (genGetter && IgniteAccessorIndex.hasGetter(psiCls, methodName))
+            return false;
 
-        return ret;
+        if (genSetter)
+            return !isFinal(psiField) && !IgniteAccessorIndex.hasSetter(psiCls, methodName, psiField.getType());
+
+        return true;
     }
 
     /** {@inheritDoc} */
@@ -155,46 +177,58 @@ public class IgniteGetterSetterGenerator extends PsiElementBaseIntentionAction i
         if (psiField == null || psiCls == null)
             return;
 
-        final PsiElementFactory psiFactory = JavaPsiFacade.getInstance(project).getElementFactory();
+        generate(project, psiCls, Collections.singletonList(psiField));
+    }
 
-        String fieldName = psiField.getName();
-        PsiDocComment psiFieldDoc = psiField.getDocComment();
+    /**
+     * Generates getters and setters of fields of a class. Must be called inside a write action.
+     * <p>
+     * Methods of all fields are built first, then inserted one after another at a single insertion point and
+     * reformatted at once. The rest of the class is neither searched nor reformatted for each field.
+     *
+     * @param project Project.
+     * @param psiCls Class declaring the fields.
+     * @param fields Fields, in the order of generated methods.
+     * @throws IncorrectOperationException If failed.
+     */
+    public void generate(@NotNull Project project, @NotNull PsiClass psiCls, @NotNull Collection<PsiField> fields)
+        throws IncorrectOperationException {
+        final PsiElementFactory psiFactory = JavaPsiFacade.getInstance(project).getElementFactory();
 
-        String docText = psiDocToText(psiFieldDoc).trim();
+        IgniteAbbreviationConfig.Config abbreviationConfig =
+            project.getService(IgniteAbbreviationConfig.class).getConfig();
 
-        IgniteAbbreviationConfig abbreviationConfig = project.getService(IgniteAbbreviationConfig.class);
+        List<PsiMethod> mtds = new ArrayList<>();
 
-        String methodName = methodName(abbreviationConfig, fieldName);
+        for (PsiField psiField : fields) {
+            String fieldName = psiField.getName();
 
-        String comment = !docText.isEmpty() ? docText : camelCaseToText(methodName).trim() + '.';
+            String docText = psiDocToText(psiField.getDocComment()).trim();
 
-        CodeStyleManager codeStyleMan = CodeStyleManager.getInstance(project);
+            String methodName = methodName(abbreviationConfig, fieldName);
 
-        // Generate getter.
-        if (genGetter) {
-            PsiMethod psiGetter = psiFactory.createMethod(methodName, psiField.getType());
+            String comment = !docText.isEmpty() ? docText : camelCaseToText(methodName).trim() + '.';
 
-            PsiCodeBlock psiGetterBody = psiGetter.getBody();
+            // Generate getter.
+            if (genGetter) {
+                PsiMethod psiGetter = psiFactory.createMethod(methodName, psiField.getType());
 
-            assert psiGetterBody != null;
+                PsiCodeBlock psiGetterBody = psiGetter.getBody();
 
-            psiGetterBody.add(psiFactory.createStatementFromText("return " + fieldName + ';', null));
+                assert psiGetterBody != null;
 
-            psiGetter.addBefore(
-                psiFactory.createDocCommentFromText(
-                    "/**\n* @return " + capitalizeFirst(comment) + "\n*/"),
-                psiGetter.getModifierList());
+                psiGetterBody.add(psiFactory.createStatementFromText("return " + fieldName + ';', null));
 
-            psiCls.addAfter(
-                codeStyleMan.reformat(psiGetter),
-                select(psiCls));
-        }
+                psiGetter.addBefore(
+                    psiFactory.createDocCommentFromText(
+                        "/**\n* @return " + capitalizeFirst(comment) + "\n*/"),
+                    psiGetter.getModifierList());
 
-        if (genSetter) {
-            PsiModifierList psiFieldModifiers = psiField.getModifierList();
+                mtds.add(psiGetter);
+            }
 
             // Generate setter if field is not final.
-            if (psiFieldModifiers == null || !psiFieldModifiers.hasExplicitModifier("final")) {
+            if (genSetter && !isFinal(psiField)) {
                 PsiMethod psiSetter = psiFactory.createMethod(methodName, PsiType.VOID);
 
                 String paramName = paramName(abbreviationConfig, fieldName);
@@ -212,11 +246,30 @@ public class IgniteGetterSetterGenerator extends PsiElementBaseIntentionAction i
                     "/**\n* @param " + paramName + " New " + unCapitalizeFirst(comment) + "\n*/"),
                     psiSetter.getModifierList());
 
-                psiCls.addAfter(
-                    codeStyleMan.reformat(psiSetter),
-                    select(psiCls));
+                mtds.add(psiSetter);
             }
         }
+
+        if (mtds.isEmpty())
+            return;
+
+        PsiElement anchor = select(psiCls);
+
+        PsiElement first = null;
+
+        for (PsiMethod mtd : mtds) {
+            anchor = psiCls.addAfter(mtd, anchor);
+
+            if (first == null)
+                first = anchor;
+        }
+
+        // Whitespaces around the inserted methods are included to get blank lines between members right.
+        PsiElement rangeStart = first.getPrevSibling() != null ? first.getPrevSibling() : first;
+        PsiElement rangeEnd = anchor.getNextSibling() != null ? anchor.getNextSibling() : anchor;
+
+        CodeStyleManager.getInstance(project).reformatRange(psiCls.getContainingFile(),
+            rangeStart.getTextRange().getStartOffset(), rangeEnd.getTextRange().getEndOffset());
     }
 
     /** {@inheritDoc} */
@@ -224,6 +277,16 @@ public class IgniteGetterSetterGenerator extends PsiElementBaseIntentionAction i
         return true;
     }
 
+    /**
+     * @param psiField Field.
+     * @return Whether the field is explicitly final, so it has no setter.
+     */
+    private static boolean isFinal(PsiField psiField) {
+        PsiModifierList psiFieldModifiers = psiField.getModifierList();
+
+        return psiFieldModifiers != null && psiFieldModifiers.hasExplicitModifier("final");
+    }
+
     /**
      * Reads a text from {@link PsiDocComment}.
      *
@@ -250,17 +313,17 @@ public class IgniteGetterSetterGenerator extends PsiElementBaseIntentionAction i
      * @param fieldName Field name.
      * @return Method name.
      */
-    private String methodName(final IgniteAbbreviationConfig cfg, String fieldName) {
-        return transformCamelCase(fieldName, new Closure2<String, Integer, String>() {
-            @Override public String apply(String part, Integer idx) {
-                if ("_".equals(part))
-                    return "";
+    private String methodName(final IgniteAbbreviationConfig.Config cfg, String fieldName) {
+        return transformCamelCase(fieldName, (s, start, end, idx, out) -> {
+            if (isChar(s, start, end, '_'))
+                return;
 
-                String unw = cfg.getUnwrapping(part);
-                String ret = unw != null ? unw : part;
+            String unw = cfg.getUnwrapping(s, start, end - start);
 
-                return idx > 0 ? capitalizeFirst(ret) : ret.toLowerCase();
-            }
+            if (unw != null)
+                appendPart(out, unw, 0, unw.length(), idx);
+            else
+                appendPart(out, s, start, end, idx);
         });
     }
 
@@ -270,20 +333,36 @@ public class IgniteGetterSetterGenerator extends PsiElementBaseIntentionAction i
      * @param fieldName Field name.
      * @return Parameter name.
      */
-    private String paramName(final IgniteAbbreviationConfig cfg, String fieldName) {
-        return transformCamelCase(fieldName, new Closure2<String, Integer, String>() {
-            @Override public String apply(String part, Integer idx) {
-                if ("_".equals(part))
-                    return "";
+    private String paramName(final IgniteAbbreviationConfig.Config cfg, String fieldName) {
+        return transformCamelCase(fieldName, (s, start, end, idx, out) -> {
+            if (isChar(s, start, end, '_'))
+                return;
 
-                String abbr = cfg.getAbbreviation(part);
-                String ret = abbr != null ? abbr : part;
+            String abbr = cfg.getAbbreviation(s, start, end - start);
 
-                return idx > 0 ? capitalizeFirst(ret) : ret.toLowerCase();
-            }
+            if (abbr != null)
+                appendPart(out, abbr, 0, abbr.length(), idx);
+            else
+                appendPart(out, s, start, end, idx);
         });
     }
 
+    /**
+     * Appends a part of a camel case name: the first part is lower-cased, the following ones are capitalized.
+     *
+     * @param out Output.
+     * @param s Char sequence.
+     * @param start Part start offset, inclusive.
+     * @param end Part end offset, exclusive.
+     * @param idx Part index.
+     */
+    private static void appendPart(StringBuilder out, CharSequence s, int start, int end, int idx) {
+        if (idx > 0)
+            appendCapitalized(out, s, start, end);
+        else
+            appendLowerCase(out, s, start, end, false);
+    }
+
     /**
      * Transforms a camel case string to a space-separated text.
      *
@@ -291,11 +370,8 @@ public class IgniteGetterSetterGenerator extends PsiElementBaseIntentionAction i
      * @return Space-separated text.
      */
     private String camelCaseToText(String camelCase) {
-        return transformCamelCase(camelCase, new Closure2<String, Integer, String>() {
-            @Override public String apply(String part, Integer idx) {
-                return part.toLowerCase() + ' ';
-            }
-        });
+        return transformCamelCase(camelCase,
+            (s, start, end, idx, out) -> appendLowerCase(out, s, start, end, false).append(' '));
     }
 
     /**
@@ -17,6 +17,11 @@
 
 package org.apache.ignite.idea.intention;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import com.intellij.codeInsight.intention.IntentionAction;
 import com.intellij.codeInsight.intention.PsiElementBaseIntentionAction;
 import com.intellij.codeInsight.intention.preview.IntentionPreviewInfo;
@@ -28,11 +33,18 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiJavaToken;
 import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiNameHelper;
+import com.intellij.psi.PsiParameter;
 import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.refactoring.JavaRefactoringFactory;
+import com.intellij.refactoring.util.RefactoringUIUtil;
 import com.intellij.util.IncorrectOperationException;
+import com.intellij.util.containers.MultiMap;
+import org.apache.ignite.idea.inspection.abbrev.IgniteBulkRename;
+import org.apache.ignite.idea.util.IgniteAccessorIndex;
+import org.apache.ignite.idea.util.IgniteOverrideIndex;
 import org.apache.ignite.idea.util.IgniteUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Tries to bring all getters and setters to Apache Ignite style.
@@ -87,20 +99,114 @@ public class IgniteGetterSetterSubstitutor extends PsiElementBaseIntentionAction
         if (psiCls == null)
             return;
 
-        JavaRefactoringFactory rFactory = JavaRefactoringFactory.getInstance(project);
+        IgniteBulkRename rename = new IgniteBulkRename(project).commandName(getText());
 
+        // Conflicting methods are left for the rename refactoring to report, as for a manual rename.
         for (PsiMethod psiMethod : psiCls.getMethods()) {
-            String methodName = psiMethod.getName();
-
-            if (methodNameMatches(methodName)) {
-                rFactory.createRename(
-                    psiMethod,
-                    IgniteUtils.unCapitalizeFirst(methodName.substring(3)),
-                    false,
-                    false)
-                .run();
+            String newName = ignitifiedName(psiMethod.getName());
+
+            if (newName != null)
+                rename.add(psiMethod, newName);
+        }
+
+        rename.run();
+    }
+
+    /**
+     * Collects getters and setters of classes to rename. Methods that can not be renamed safely are not added and
+     * are reported as conflicts:
+     * <ul>
+     *     <li>the new name is not an identifier, e.g. {@code getClass} or {@code setDefault};</li>
+     *     <li>the class already has a method with the new name and the same parameters;</li>
+     *     <li>the method overrides a method that is not renamed, e.g. one of a library class or one with a
+     *     conflict.</li>
+     * </ul>
+     * Must be called inside a read action.
+     *
+     * @param classes Classes, including nested ones.
+     * @param rename Rename to add methods to.
+     * @return Conflicts.
+     */
+    public static MultiMap<PsiElement, String> collect(Collection<PsiClass> classes, IgniteBulkRename rename) {
+        Map<PsiMethod, String> candidates = new LinkedHashMap<>();
+
+        for (PsiClass psiCls : classes) {
+            for (PsiMethod psiMethod : psiCls.getMethods()) {
+                String newName = ignitifiedName(psiMethod.getName());
+
+                if (newName != null)
+                    candidates.put(psiMethod, newName);
+            }
+        }
+
+        MultiMap<PsiElement, String> conflicts = new MultiMap<>();
+
+        // A rejected method keeps its name, so methods overriding it are rejected in turn.
+        boolean rejected;
+
+        do {
+            rejected = false;
+
+            for (Iterator<Map.Entry<PsiMethod, String>> it = candidates.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<PsiMethod, String> e = it.next();
+
+                String conflict = conflict(e.getKey(), e.getValue(), candidates.keySet());
+
+                if (conflict != null) {
+                    conflicts.putValue(e.getKey(), conflict);
+
+                    it.remove();
+
+                    rejected = true;
+                }
             }
         }
+        while (rejected);
+
+        for (Map.Entry<PsiMethod, String> e : candidates.entrySet())
+            rename.add(e.getKey(), e.getValue());
+
+        return conflicts;
+    }
+
+    /**
+     * @param psiMethod Method to rename.
+     * @param newName New name.
+     * @param renamed Methods to rename that have no conflicts so far.
+     * @return Description of a conflict or {@code null} if the method can be renamed.
+     */
+    @Nullable private static String conflict(PsiMethod psiMethod, String newName, Set<PsiMethod> renamed) {
+        String desc = RefactoringUIUtil.getDescription(psiMethod, true);
+
+        if (!PsiNameHelper.getInstance(psiMethod.getProject()).isIdentifier(newName))
+            return desc + " can not be renamed to '" + newName + "': not an identifier.";
+
+        PsiClass psiCls = psiMethod.getContainingClass();
+
+        PsiParameter[] params = psiMethod.getParameterList().getParameters();
+
+        if (psiCls != null && (params.length == 0 && IgniteAccessorIndex.hasGetter(psiCls, newName) ||
+            params.length == 1 && IgniteAccessorIndex.hasSetter(psiCls, newName, params[0].getType())))
+            return desc + " can not be renamed to '" + newName + "': a method with this signature already exists.";
+
+        if (IgniteOverrideIndex.isOverride(psiMethod)) {
+            for (PsiMethod superMtd : psiMethod.findSuperMethods()) {
+                if (!renamed.contains(superMtd)) {
+                    return desc + " overrides " + RefactoringUIUtil.getDescription(superMtd, true) +
+                        " that is not renamed.";
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @param methodName Method name.
+     * @return Apache Ignite style name or {@code null} if the method is not a JavaBeans getter or setter.
+     */
+    @Nullable public static String ignitifiedName(String methodName) {
+        return methodNameMatches(methodName) ? IgniteUtils.unCapitalizeFirst(methodName.substring(3)) : null;
     }
 
     /**
@@ -109,7 +215,7 @@ public class IgniteGetterSetterSubstitutor extends PsiElementBaseIntentionAction
      * @param methodName Method name.
      * @return {@code true} if matches, {@code false} otherwise.
      */
-    private boolean methodNameMatches(String methodName) {
+    private static boolean methodNameMatches(String methodName) {
         return methodName.length() > 3 &&
             (methodName.startsWith("get") || methodName.startsWith("set")) &&
             Character.isUpperCase(methodName.charAt(3));
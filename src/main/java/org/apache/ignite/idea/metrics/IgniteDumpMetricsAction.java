@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Action that saves recorded inspection timing to a JSON file.
+ */
+public class IgniteDumpMetricsAction extends DumbAwareAction {
+    /** Default file name. */
+    private static final String DFLT_FILE_NAME = "ignite-inspection-metrics.json";
+
+    /** {@inheritDoc} */
+    @Override public void actionPerformed(@NotNull AnActionEvent e) {
+        FileSaverDescriptor desc = new FileSaverDescriptor("Dump Inspection Metrics",
+            "Save timing of Apache Ignite inspections", "json");
+
+        VirtualFileWrapper wrapper = FileChooserFactory.getInstance().createSaveFileDialog(desc, e.getProject())
+            .save(DFLT_FILE_NAME);
+
+        if (wrapper == null)
+            return;
+
+        Path path = wrapper.getFile().toPath();
+
+        try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            IgniteInspectionMetrics.getInstance().writeJson(out);
+        }
+        catch (IOException ex) {
+            Messages.showErrorDialog(e.getProject(), "Failed to write " + path + ": " + ex.getMessage(),
+                "Dump Inspection Metrics");
+        }
+    }
+}
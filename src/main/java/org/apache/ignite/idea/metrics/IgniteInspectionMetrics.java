@@ -0,0 +1,681 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import com.intellij.codeInspection.LocalInspectionToolSession;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import org.apache.ignite.idea.inspection.abbrev.IgniteAbbreviationConfig;
+import org.apache.ignite.idea.inspection.abbrev.IgniteAbbreviationDictionary;
+import org.apache.ignite.idea.inspection.abbrev.IgniteAbbreviationVerdictCache;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Timing of the plugin inspections.
+ * <p>
+ * While recording is enabled, visitors built by the plugin inspections are wrapped to measure the time spent in them
+ * and the number of visited elements per file. The numbers are aggregated into per-rule histograms of per-file time
+ * and a list of the slowest (file, rule) pairs. Recording is disabled by default.
+ * <p>
+ * Visitors are also wrapped while the {@link IgniteSlowFileWatchdog} is on, to log files that take too long to
+ * inspect. Both are off by default, then visitors are not wrapped.
+ */
+public class IgniteInspectionMetrics {
+    /** Number of kept slowest (file, rule) pairs. */
+    public static final int SLOWEST_CNT = 50;
+
+    /** Number of histogram buckets. Bucket {@code i > 0} counts times in {@code [2^(i-1), 2^i)} microseconds. */
+    public static final int BUCKETS = 28;
+
+    /** Visitors of the current session by rule. */
+    private static final Key<ConcurrentMap<String, TimedVisitor>> VISITORS =
+        Key.create("IgniteInspectionMetrics.visitors");
+
+    /** Whether recording is enabled. */
+    private static volatile boolean enabled;
+
+    /** Statistics by rule. */
+    private final ConcurrentMap<String, RuleStats> rules = new ConcurrentHashMap<>();
+
+    /** Slowest (file, rule) pairs, slowest first. */
+    private final List<FileSample> slowest = new ArrayList<>();
+
+    /** Time of the fastest kept sample once {@link #slowest} is full, to skip faster ones without locking. */
+    private volatile long slowestThreshold;
+
+    /** Start of recording, milliseconds since epoch. */
+    private volatile long startTs = System.currentTimeMillis();
+
+    /** Watchdog of slow files. */
+    private final IgniteSlowFileWatchdog watchdog = new IgniteSlowFileWatchdog();
+
+    /**
+     * @return Instance.
+     */
+    public static IgniteInspectionMetrics getInstance() {
+        return ApplicationManager.getApplication().getService(IgniteInspectionMetrics.class);
+    }
+
+    /**
+     * @return Whether recording is enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return Whether visitors of the rules are wrapped, because recording or the watchdog of slow files is on.
+     */
+    public static boolean isInstrumented() {
+        return enabled || IgniteSlowFileWatchdog.budgetMillis() > 0;
+    }
+
+    /**
+     * @param enabled Whether to record.
+     */
+    public static void setEnabled(boolean enabled) {
+        IgniteInspectionMetrics.enabled = enabled;
+
+        IgniteAbbreviationDictionary.countLookups(enabled);
+    }
+
+    /**
+     * Wraps a visitor to measure time spent in it, if recording or the watchdog of slow files is on.
+     *
+     * @param rule Rule short name.
+     * @param ses Inspection session.
+     * @param visitor Visitor built by the rule.
+     * @return Visitor to use.
+     */
+    @NotNull public PsiElementVisitor instrument(@NotNull String rule, @NotNull LocalInspectionToolSession ses,
+        @NotNull PsiElementVisitor visitor) {
+        if (!isInstrumented() || visitor == PsiElementVisitor.EMPTY_VISITOR)
+            return visitor;
+
+        TimedVisitor timed = new TimedVisitor(visitor, IgniteSlowFileWatchdog.budgetMillis() > 0 ? watchdog : null);
+
+        ConcurrentMap<String, TimedVisitor> visitors = ses.getUserData(VISITORS);
+
+        if (visitors == null)
+            visitors = ses.putUserDataIfAbsent(VISITORS, new ConcurrentHashMap<>());
+
+        visitors.put(rule, timed);
+
+        return timed;
+    }
+
+    /**
+     * Records time of a rule instrumented in the session and reports the file if the rule was too slow on it.
+     *
+     * @param rule Rule short name.
+     * @param ses Inspection session.
+     */
+    public void finished(@NotNull String rule, @NotNull LocalInspectionToolSession ses) {
+        ConcurrentMap<String, TimedVisitor> visitors = ses.getUserData(VISITORS);
+
+        TimedVisitor timed = visitors != null ? visitors.remove(rule) : null;
+
+        if (timed == null)
+            return;
+
+        VirtualFile file = ses.getFile().getViewProvider().getVirtualFile();
+
+        if (timed.watchdog != null)
+            timed.watchdog.finished(rule, file.getPath(), timed);
+
+        if (enabled)
+            record(rule, file.getPath(), timed.nanos, timed.elements);
+    }
+
+    /**
+     * @param rule Rule short name.
+     * @param path File path.
+     * @param nanos Time spent by the rule on the file.
+     * @param elements Number of elements visited by the rule.
+     */
+    public void record(String rule, String path, long nanos, long elements) {
+        rules.computeIfAbsent(rule, RuleStats::new).add(nanos, elements);
+
+        if (nanos < slowestThreshold)
+            return;
+
+        synchronized (slowest) {
+            FileSample sample = new FileSample(path, rule, nanos, elements);
+
+            int idx = 0;
+
+            while (idx < slowest.size() && slowest.get(idx).nanos >= nanos)
+                idx++;
+
+            if (idx >= SLOWEST_CNT)
+                return;
+
+            slowest.add(idx, sample);
+
+            if (slowest.size() > SLOWEST_CNT)
+                slowest.remove(slowest.size() - 1);
+
+            if (slowest.size() == SLOWEST_CNT)
+                slowestThreshold = slowest.get(SLOWEST_CNT - 1).nanos;
+        }
+    }
+
+    /**
+     * Drops all recorded numbers.
+     */
+    public void reset() {
+        rules.clear();
+
+        synchronized (slowest) {
+            slowest.clear();
+
+            slowestThreshold = 0;
+        }
+
+        startTs = System.currentTimeMillis();
+    }
+
+    /**
+     * @return Statistics by rule, slowest rule first.
+     */
+    public List<RuleStats> rules() {
+        List<RuleStats> res = new ArrayList<>(rules.values());
+
+        res.sort(Comparator.comparingLong(RuleStats::totalNanos).reversed());
+
+        return res;
+    }
+
+    /**
+     * @return Slowest (file, rule) pairs, slowest first.
+     */
+    public List<FileSample> slowestFiles() {
+        synchronized (slowest) {
+            return new ArrayList<>(slowest);
+        }
+    }
+
+    /**
+     * @return Start of recording, milliseconds since epoch.
+     */
+    public long startTimestamp() {
+        return startTs;
+    }
+
+    /**
+     * @return Counters of the abbreviation rules of open projects.
+     */
+    public Counters counters() {
+        long reloads = 0;
+        long hits = 0;
+        long misses = 0;
+
+        for (Project project : ProjectManager.getInstance().getOpenProjects()) {
+            IgniteAbbreviationConfig cfg = project.getServiceIfCreated(IgniteAbbreviationConfig.class);
+
+            if (cfg == null)
+                continue;
+
+            IgniteAbbreviationVerdictCache verdicts = cfg.getVerdictCache();
+
+            reloads += cfg.getReloadCount();
+            hits += verdicts.hits();
+            misses += verdicts.misses();
+        }
+
+        return new Counters(reloads, IgniteAbbreviationDictionary.lookupCount(), hits, misses);
+    }
+
+    /**
+     * Writes recorded numbers as JSON, to attach to a report of slow highlighting.
+     *
+     * @param out Output.
+     * @throws IOException If failed.
+     */
+    public void writeJson(Writer out) throws IOException {
+        Counters cnts = counters();
+
+        out.write("{\n  \"start\": ");
+        out.write(Long.toString(startTs));
+        out.write(",\n  \"end\": ");
+        out.write(Long.toString(System.currentTimeMillis()));
+        out.write(",\n  \"counters\": {\"configReloads\": ");
+        out.write(Long.toString(cnts.configReloads()));
+        out.write(", \"dictionaryLookups\": ");
+        out.write(Long.toString(cnts.dictionaryLookups()));
+        out.write(", \"verdictHits\": ");
+        out.write(Long.toString(cnts.verdictHits()));
+        out.write(", \"verdictMisses\": ");
+        out.write(Long.toString(cnts.verdictMisses()));
+        out.write("},\n  \"rules\": [");
+
+        boolean first = true;
+
+        for (RuleStats stats : rules()) {
+            out.write(first ? "\n    " : ",\n    ");
+            out.write("{\"rule\": ");
+            string(out, stats.rule());
+            out.write(", \"files\": ");
+            out.write(Long.toString(stats.files()));
+            out.write(", \"totalNanos\": ");
+            out.write(Long.toString(stats.totalNanos()));
+            out.write(", \"maxNanos\": ");
+            out.write(Long.toString(stats.maxNanos()));
+            out.write(", \"elements\": ");
+            out.write(Long.toString(stats.elements()));
+            out.write(", \"histogramMicros\": {");
+
+            long[] hist = stats.histogram();
+
+            boolean firstBucket = true;
+
+            for (int i = 0; i < hist.length; i++) {
+                if (hist[i] == 0)
+                    continue;
+
+                out.write(firstBucket ? "\"" : ", \"");
+                out.write(Long.toString(bucketUpperBound(i)));
+                out.write("\": ");
+                out.write(Long.toString(hist[i]));
+
+                firstBucket = false;
+            }
+
+            out.write("}}");
+
+            first = false;
+        }
+
+        out.write(first ? "],\n  \"slowest\": [" : "\n  ],\n  \"slowest\": [");
+
+        first = true;
+
+        for (FileSample sample : slowestFiles()) {
+            out.write(first ? "\n    " : ",\n    ");
+            out.write("{\"path\": ");
+            string(out, sample.path());
+            out.write(", \"rule\": ");
+            string(out, sample.rule());
+            out.write(", \"nanos\": ");
+            out.write(Long.toString(sample.nanos()));
+            out.write(", \"elements\": ");
+            out.write(Long.toString(sample.elements()));
+            out.write("}");
+
+            first = false;
+        }
+
+        out.write(first ? "]\n}\n" : "\n  ]\n}\n");
+    }
+
+    /**
+     * Writes JSON string.
+     *
+     * @param out Output.
+     * @param s String.
+     * @throws IOException If failed.
+     */
+    private static void string(Writer out, String s) throws IOException {
+        out.write('"');
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            }
+            else if (c < 0x20)
+                out.write(String.format("\\u%04x", (int)c));
+            else
+                out.write(c);
+        }
+
+        out.write('"');
+    }
+
+    /**
+     * @param nanos Time.
+     * @return Histogram bucket.
+     */
+    static int bucket(long nanos) {
+        long micros = nanos / 1000;
+
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    /**
+     * @param bucket Histogram bucket.
+     * @return Upper bound of times in the bucket, in microseconds.
+     */
+    public static long bucketUpperBound(int bucket) {
+        return 1L << bucket;
+    }
+
+    /**
+     * Visitor that measures time spent in a delegate.
+     * <p>
+     * A session runs a visitor in one thread at a time, so the counters are not synchronized. The watchdog reads
+     * them from its sampling thread only to build a report, where a stale value does no harm.
+     */
+    static class TimedVisitor extends PsiElementVisitor {
+        /** Delegate. */
+        private final PsiElementVisitor delegate;
+
+        /** Watchdog of slow files or {@code null} if it is off. */
+        @Nullable final IgniteSlowFileWatchdog watchdog;
+
+        /** Time spent in the delegate. */
+        long nanos;
+
+        /** Number of visited elements. */
+        long elements;
+
+        /** Thread that visits the file, set on the first visited element. */
+        volatile Thread thread;
+
+        /** Start of the visit, set on the first visited element. */
+        volatile long startNanos;
+
+        /** Whether the thread is inside the delegate now. Written only if the watchdog is on. */
+        volatile boolean inDelegate;
+
+        /**
+         * @param delegate Delegate.
+         * @param watchdog Watchdog of slow files or {@code null} if it is off.
+         */
+        TimedVisitor(PsiElementVisitor delegate, @Nullable IgniteSlowFileWatchdog watchdog) {
+            this.delegate = delegate;
+            this.watchdog = watchdog;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void visitElement(@NotNull PsiElement element) {
+            long start = System.nanoTime();
+
+            if (watchdog != null) {
+                if (thread == null) {
+                    thread = Thread.currentThread();
+                    startNanos = start;
+
+                    watchdog.started(this);
+                }
+
+                inDelegate = true;
+            }
+
+            try {
+                // Dispatches to the language specific method of the delegate.
+                element.accept(delegate);
+            }
+            finally {
+                if (watchdog != null)
+                    inDelegate = false;
+
+                nanos += System.nanoTime() - start;
+                elements++;
+            }
+        }
+    }
+
+    /**
+     * Statistics of a rule.
+     */
+    public static class RuleStats {
+        /** Rule short name. */
+        private final String rule;
+
+        /** Number of inspected files. */
+        private final LongAdder files = new LongAdder();
+
+        /** Total time. */
+        private final LongAdder totalNanos = new LongAdder();
+
+        /** Number of visited elements. */
+        private final LongAdder elements = new LongAdder();
+
+        /** Maximum time per file. */
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        /** Histogram of time per file. */
+        private final AtomicLongArray hist = new AtomicLongArray(BUCKETS);
+
+        /**
+         * @param rule Rule short name.
+         */
+        private RuleStats(String rule) {
+            this.rule = rule;
+        }
+
+        /**
+         * @param nanos Time spent on a file.
+         * @param elements Number of visited elements.
+         */
+        private void add(long nanos, long elements) {
+            files.increment();
+            totalNanos.add(nanos);
+            this.elements.add(elements);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            hist.incrementAndGet(bucket(nanos));
+        }
+
+        /**
+         * @return Rule short name.
+         */
+        public String rule() {
+            return rule;
+        }
+
+        /**
+         * @return Number of inspected files.
+         */
+        public long files() {
+            return files.sum();
+        }
+
+        /**
+         * @return Total time.
+         */
+        public long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        /**
+         * @return Number of visited elements.
+         */
+        public long elements() {
+            return elements.sum();
+        }
+
+        /**
+         * @return Maximum time per file.
+         */
+        public long maxNanos() {
+            return maxNanos.get();
+        }
+
+        /**
+         * @return Histogram of time per file, see {@link #BUCKETS}.
+         */
+        public long[] histogram() {
+            long[] res = new long[BUCKETS];
+
+            for (int i = 0; i < BUCKETS; i++)
+                res[i] = hist.get(i);
+
+            return res;
+        }
+
+        /**
+         * @param q Quantile, e.g. {@code 0.9}.
+         * @return Upper bound of the quantile of time per file, in microseconds.
+         */
+        public long quantileMicros(double q) {
+            long[] h = histogram();
+
+            long total = 0;
+
+            for (long cnt : h)
+                total += cnt;
+
+            long rank = (long)Math.ceil(q * total);
+            long seen = 0;
+
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += h[i];
+
+                if (seen >= rank && seen > 0)
+                    return bucketUpperBound(i);
+            }
+
+            return 0;
+        }
+    }
+
+    /**
+     * Time spent by a rule on a file.
+     */
+    public static class FileSample {
+        /** File path. */
+        private final String path;
+
+        /** Rule short name. */
+        private final String rule;
+
+        /** Time. */
+        private final long nanos;
+
+        /** Number of visited elements. */
+        private final long elements;
+
+        /**
+         * @param path File path.
+         * @param rule Rule short name.
+         * @param nanos Time.
+         * @param elements Number of visited elements.
+         */
+        private FileSample(String path, String rule, long nanos, long elements) {
+            this.path = path;
+            this.rule = rule;
+            this.nanos = nanos;
+            this.elements = elements;
+        }
+
+        /**
+         * @return File path.
+         */
+        public String path() {
+            return path;
+        }
+
+        /**
+         * @return Rule short name.
+         */
+        public String rule() {
+            return rule;
+        }
+
+        /**
+         * @return Time.
+         */
+        public long nanos() {
+            return nanos;
+        }
+
+        /**
+         * @return Number of visited elements.
+         */
+        public long elements() {
+            return elements;
+        }
+    }
+
+    /**
+     * Counters of the abbreviation rules.
+     */
+    public static class Counters {
+        /** Number of reloads of project specific rules. */
+        private final long cfgReloads;
+
+        /** Number of dictionary lookups. */
+        private final long dictLookups;
+
+        /** Number of identifier verdict cache hits. */
+        private final long verdictHits;
+
+        /** Number of identifier verdict cache misses. */
+        private final long verdictMisses;
+
+        /**
+         * @param cfgReloads Number of reloads of project specific rules.
+         * @param dictLookups Number of dictionary lookups.
+         * @param verdictHits Number of identifier verdict cache hits.
+         * @param verdictMisses Number of identifier verdict cache misses.
+         */
+        private Counters(long cfgReloads, long dictLookups, long verdictHits, long verdictMisses) {
+            this.cfgReloads = cfgReloads;
+            this.dictLookups = dictLookups;
+            this.verdictHits = verdictHits;
+            this.verdictMisses = verdictMisses;
+        }
+
+        /**
+         * @return Number of reloads of project specific rules.
+         */
+        public long configReloads() {
+            return cfgReloads;
+        }
+
+        /**
+         * @return Number of dictionary lookups while recording was enabled.
+         */
+        public long dictionaryLookups() {
+            return dictLookups;
+        }
+
+        /**
+         * @return Number of identifier verdict cache hits.
+         */
+        public long verdictHits() {
+            return verdictHits;
+        }
+
+        /**
+         * @return Number of identifier verdict cache misses.
+         */
+        public long verdictMisses() {
+            return verdictMisses;
+        }
+    }
+}
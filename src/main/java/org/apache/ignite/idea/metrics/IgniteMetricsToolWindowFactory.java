@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.metrics;
+
+import java.awt.BorderLayout;
+import javax.swing.JPanel;
+import javax.swing.Timer;
+import javax.swing.table.DefaultTableModel;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.ui.JBSplitter;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.ui.JBUI;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Tool window that shows timing of the plugin inspections: rules by total time and the slowest files.
+ */
+public class IgniteMetricsToolWindowFactory implements ToolWindowFactory, DumbAware {
+    /** Refresh period of a visible tool window. */
+    private static final int REFRESH_PERIOD_MS = 2000;
+
+    /** Columns of the rules table. */
+    private static final String[] RULE_COLS = {"Rule", "Files", "Total, ms", "Avg, us", "p90, us", "Max, ms",
+        "Elements"};
+
+    /** Columns of the slowest files table. */
+    private static final String[] FILE_COLS = {"File", "Rule", "Time, ms", "Elements"};
+
+    /** {@inheritDoc} */
+    @Override public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+        MetricsPanel panel = new MetricsPanel();
+
+        Content content = ContentFactory.getInstance().createContent(panel, null, false);
+
+        Timer timer = new Timer(REFRESH_PERIOD_MS, e -> {
+            if (toolWindow.isVisible())
+                panel.refresh();
+        });
+
+        timer.start();
+
+        Disposer.register(content, timer::stop);
+
+        toolWindow.getContentManager().addContent(content);
+    }
+
+    /**
+     * Panel with the tables and a toolbar.
+     */
+    private static class MetricsPanel extends SimpleToolWindowPanel {
+        /** Rules. */
+        private final DefaultTableModel rules = readOnlyModel(RULE_COLS);
+
+        /** Slowest files. */
+        private final DefaultTableModel files = readOnlyModel(FILE_COLS);
+
+        /** Counters of the abbreviation rules. */
+        private final JBLabel counters = new JBLabel();
+
+        /** */
+        private MetricsPanel() {
+            super(true, true);
+
+            JBSplitter splitter = new JBSplitter(true, 0.4f);
+
+            splitter.setFirstComponent(new JBScrollPane(new JBTable(rules)));
+            splitter.setSecondComponent(new JBScrollPane(new JBTable(files)));
+
+            counters.setBorder(JBUI.Borders.empty(4));
+
+            JPanel main = new JPanel(new BorderLayout());
+
+            main.add(splitter, BorderLayout.CENTER);
+            main.add(counters, BorderLayout.SOUTH);
+
+            setContent(main);
+
+            DefaultActionGroup grp = new DefaultActionGroup();
+
+            ActionManager actMgr = ActionManager.getInstance();
+
+            grp.add(actMgr.getAction("ignite-record-metrics"));
+            grp.add(new DumbAwareAction("Refresh", "Show recently recorded numbers", AllIcons.Actions.Refresh) {
+                /** {@inheritDoc} */
+                @Override public void actionPerformed(@NotNull AnActionEvent e) {
+                    refresh();
+                }
+            });
+            grp.add(new DumbAwareAction("Reset", "Drop recorded numbers", AllIcons.Actions.GC) {
+                /** {@inheritDoc} */
+                @Override public void actionPerformed(@NotNull AnActionEvent e) {
+                    IgniteInspectionMetrics.getInstance().reset();
+
+                    refresh();
+                }
+            });
+            grp.add(actMgr.getAction("ignite-dump-metrics"));
+
+            ActionToolbar toolbar = actMgr.createActionToolbar("IgniteInspectionMetrics", grp, true);
+
+            toolbar.setTargetComponent(this);
+
+            setToolbar(toolbar.getComponent());
+
+            refresh();
+        }
+
+        /**
+         * Shows current numbers.
+         */
+        private void refresh() {
+            IgniteInspectionMetrics metrics = IgniteInspectionMetrics.getInstance();
+
+            rules.setRowCount(0);
+
+            for (IgniteInspectionMetrics.RuleStats stats : metrics.rules()) {
+                long filesCnt = stats.files();
+
+                rules.addRow(new Object[] {
+                    stats.rule(),
+                    filesCnt,
+                    millis(stats.totalNanos()),
+                    filesCnt > 0 ? stats.totalNanos() / filesCnt / 1000 : 0,
+                    stats.quantileMicros(0.9),
+                    millis(stats.maxNanos()),
+                    stats.elements()
+                });
+            }
+
+            files.setRowCount(0);
+
+            for (IgniteInspectionMetrics.FileSample sample : metrics.slowestFiles())
+                files.addRow(new Object[] {sample.path(), sample.rule(), millis(sample.nanos()), sample.elements()});
+
+            IgniteInspectionMetrics.Counters cnts = metrics.counters();
+
+            counters.setText(String.format("Recording: %s. Config reloads: %d. Dictionary lookups: %d. " +
+                    "Verdict cache hits: %d, misses: %d.", IgniteInspectionMetrics.isEnabled() ? "on" : "off",
+                cnts.configReloads(), cnts.dictionaryLookups(), cnts.verdictHits(), cnts.verdictMisses()));
+        }
+
+        /**
+         * @param nanos Time.
+         * @return Milliseconds with one decimal.
+         */
+        private static String millis(long nanos) {
+            return String.format("%.1f", nanos / 1_000_000.0);
+        }
+
+        /**
+         * @param cols Columns.
+         * @return Table model that can not be edited.
+         */
+        private static DefaultTableModel readOnlyModel(String[] cols) {
+            return new DefaultTableModel(cols, 0) {
+                /** {@inheritDoc} */
+                @Override public boolean isCellEditable(int row, int col) {
+                    return false;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.metrics;
+
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.DumbAwareToggleAction;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Action that switches recording of inspection timing on and off.
+ */
+public class IgniteRecordMetricsAction extends DumbAwareToggleAction {
+    /** {@inheritDoc} */
+    @Override public boolean isSelected(@NotNull AnActionEvent e) {
+        return IgniteInspectionMetrics.isEnabled();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void setSelected(@NotNull AnActionEvent e, boolean state) {
+        IgniteInspectionMetrics.setEnabled(state);
+
+        Project project = e.getProject();
+
+        // Highlight open files again to get numbers without waiting for the next edit.
+        if (state && project != null)
+            DaemonCodeAnalyzer.getInstance(project).restart();
+    }
+
+    /** {@inheritDoc} */
+    @NotNull @Override public ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.util.registry.Registry;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.apache.ignite.idea.metrics.IgniteInspectionMetrics.TimedVisitor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Watchdog that logs files on which a rule spends more time than the budget set by the
+ * {@value #BUDGET_KEY} registry key, {@code 0} turns it off. It is off by default: while it is on, every rule
+ * visitor is wrapped and times each visited element.
+ * <p>
+ * Once a visit takes half of the budget, the visiting thread is sampled while it is inside the rule visitor. If the
+ * rule exceeds the budget, the file path, the rule, the number of visited elements and the most frequent sampled
+ * stacks are logged as a warning. Highlighting is never slowed down or cancelled by the watchdog.
+ */
+class IgniteSlowFileWatchdog {
+    /** Registry key of the budget of a rule on a file, in milliseconds. */
+    static final String BUDGET_KEY = "ignite.inspection.slow.file.ms";
+
+    /** Budget used if the registry key is not registered. */
+    private static final int DFLT_BUDGET_MS = 0;
+
+    /** Sampling period. */
+    private static final long SAMPLE_PERIOD_MS = 20;
+
+    /** Number of top frames of a sampled stack to keep. */
+    private static final int STACK_DEPTH = 8;
+
+    /** Number of distinct stacks to keep per visit. */
+    private static final int MAX_STACKS = 256;
+
+    /** Number of the most frequent stacks to log. */
+    private static final int REPORTED_STACKS = 5;
+
+    /** Visits longer than this number of budgets are not sampled anymore, e.g. cancelled ones. */
+    private static final int MAX_TRACKED_BUDGETS = 10;
+
+    /** Logger. */
+    private static final Logger LOG = Logger.getInstance(IgniteSlowFileWatchdog.class);
+
+    /** Class of the visitor that wraps rule visitors, its frame delimits rule frames in a stack. */
+    private static final String TIMED_VISITOR_CLS = TimedVisitor.class.getName();
+
+    /** Package prefix of the plugin classes. */
+    private static final String PLUGIN_PKG = "org.apache.ignite.idea.";
+
+    /** Visits in progress. */
+    private final Set<TimedVisitor> running = ConcurrentHashMap.newKeySet();
+
+    /** Sampled stacks of visits in progress, with counts. */
+    private final Map<TimedVisitor, Map<String, Integer>> profiles = new ConcurrentHashMap<>();
+
+    /** Sampling task, scheduled while there are visits in progress. */
+    private ScheduledFuture<?> sampler;
+
+    /**
+     * @return Budget of a rule on a file in milliseconds, {@code 0} if the watchdog is off.
+     */
+    static int budgetMillis() {
+        return Registry.intValue(BUDGET_KEY, DFLT_BUDGET_MS);
+    }
+
+    /**
+     * @param visit Visit that started.
+     */
+    synchronized void started(TimedVisitor visit) {
+        running.add(visit);
+
+        if (sampler == null) {
+            sampler = AppExecutorUtil.getAppScheduledExecutorService()
+                .scheduleWithFixedDelay(this::sample, SAMPLE_PERIOD_MS, SAMPLE_PERIOD_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Logs the file if the rule exceeded the budget.
+     *
+     * @param rule Rule short name.
+     * @param path File path.
+     * @param visit Finished visit.
+     * @return Logged report or {@code null} if the rule was within the budget.
+     */
+    @Nullable String finished(String rule, String path, TimedVisitor visit) {
+        stopTracking(visit);
+
+        Map<String, Integer> profile = profiles.remove(visit);
+
+        long budget = budgetMillis();
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(visit.nanos);
+
+        if (budget <= 0 || millis <= budget)
+            return null;
+
+        String report = report(rule, path, millis, visit.elements, profile);
+
+        LOG.warn(report);
+
+        return report;
+    }
+
+    /**
+     * @param visit Visit to stop sampling.
+     */
+    private synchronized void stopTracking(TimedVisitor visit) {
+        running.remove(visit);
+
+        if (running.isEmpty() && sampler != null) {
+            sampler.cancel(false);
+
+            sampler = null;
+        }
+    }
+
+    /**
+     * Samples threads of the visits that took half of the budget.
+     */
+    private void sample() {
+        long budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis());
+
+        long now = System.nanoTime();
+
+        for (TimedVisitor visit : running) {
+            long elapsed = now - visit.startNanos;
+
+            if (budgetNanos <= 0 || elapsed > MAX_TRACKED_BUDGETS * budgetNanos) {
+                // Lost visit, e.g. highlighting was cancelled and the rule was not finished.
+                stopTracking(visit);
+
+                profiles.remove(visit);
+
+                continue;
+            }
+
+            Thread thread = visit.thread;
+
+            if (elapsed < budgetNanos / 2 || thread == null || !visit.inDelegate)
+                continue;
+
+            String stack = ruleStack(thread.getStackTrace());
+
+            if (stack == null)
+                continue;
+
+            Map<String, Integer> profile = profiles.computeIfAbsent(visit, v -> new HashMap<>());
+
+            synchronized (profile) {
+                if (profile.size() < MAX_STACKS || profile.containsKey(stack))
+                    profile.merge(stack, 1, Integer::sum);
+            }
+
+            // The visit may have finished while it was sampled.
+            if (!running.contains(visit))
+                profiles.remove(visit);
+        }
+    }
+
+    /**
+     * @param trace Stack trace of a visiting thread.
+     * @return Top frames inside the rule visitor, followed by the innermost plugin frame if it is deeper, or
+     *      {@code null} if the thread has left the rule visitor.
+     */
+    @Nullable private static String ruleStack(StackTraceElement[] trace) {
+        int end = -1;
+
+        for (int i = 0; i < trace.length; i++) {
+            if (TIMED_VISITOR_CLS.equals(trace[i].getClassName())) {
+                end = i;
+
+                break;
+            }
+        }
+
+        if (end <= 0)
+            return null;
+
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < Math.min(end, STACK_DEPTH); i++)
+            sb.append("\n        at ").append(trace[i]);
+
+        for (int i = STACK_DEPTH; i < end; i++) {
+            if (trace[i].getClassName().startsWith(PLUGIN_PKG)) {
+                sb.append("\n        ...\n        at ").append(trace[i]);
+
+                break;
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * @param rule Rule short name.
+     * @param path File path.
+     * @param millis Time spent by the rule.
+     * @param elements Number of visited elements.
+     * @param profile Sampled stacks with counts or {@code null} if there are none.
+     * @return Report.
+     */
+    static String report(String rule, String path, long millis, long elements,
+        @Nullable Map<String, Integer> profile) {
+        StringBuilder sb = new StringBuilder();
+
+        int samples = 0;
+
+        List<Map.Entry<String, Integer>> stacks = new ArrayList<>();
+
+        if (profile != null) {
+            synchronized (profile) {
+                stacks.addAll(profile.entrySet());
+            }
+
+            for (Map.Entry<String, Integer> e : stacks)
+                samples += e.getValue();
+
+            stacks.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        }
+
+        sb.append("Slow inspection [rule=").append(rule)
+            .append(", file=").append(path)
+            .append(", time=").append(millis).append("ms")
+            .append(", budget=").append(budgetMillis()).append("ms")
+            .append(", elements=").append(elements)
+            .append(", samples=").append(samples).append(']');
+
+        for (int i = 0; i < Math.min(REPORTED_STACKS, stacks.size()); i++) {
+            Map.Entry<String, Integer> e = stacks.get(i);
+
+            sb.append("\n    ").append(e.getValue()).append(" of ").append(samples).append(" samples:")
+                .append(e.getKey());
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.util;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import com.intellij.openapi.util.Pair;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.TypeConversionUtil;
+
+/**
+ * Per-class cache of signatures of getters and setters a class has, declared or inherited.
+ * <p>
+ * A getter is any method without parameters and a setter is any method with a single parameter, matched by name and
+ * erased parameter type, with type parameters of supers substituted as in the class. All methods of a class are read
+ * once, on the first request, and the result is kept until the next PSI modification, so checking every field of a
+ * wide class creates no PSI and does no resolve per field.
+ */
+public abstract class IgniteAccessorIndex {
+    /**
+     * Checks whether a class has a method with the name and no parameters. Must be called inside a read action.
+     *
+     * @param cls Class.
+     * @param name Method name.
+     * @return {@code true} if the class declares or inherits such a method.
+     */
+    public static boolean hasGetter(PsiClass cls, String name) {
+        return signatures(cls).contains(name + "()");
+    }
+
+    /**
+     * Checks whether a class has a method with the name and a single parameter of the type, up to erasure. Must be
+     * called inside a read action.
+     *
+     * @param cls Class.
+     * @param name Method name.
+     * @param type Parameter type.
+     * @return {@code true} if the class declares or inherits such a method.
+     */
+    public static boolean hasSetter(PsiClass cls, String name, PsiType type) {
+        return signatures(cls).contains(setterSignature(name, type));
+    }
+
+    /**
+     * @param cls Class.
+     * @return Signatures of methods of the class with no or a single parameter.
+     */
+    public static Set<String> signatures(PsiClass cls) {
+        return CachedValuesManager.getCachedValue(cls, () ->
+            CachedValueProvider.Result.create(compute(cls), PsiModificationTracker.MODIFICATION_COUNT));
+    }
+
+    /**
+     * @param cls Class.
+     * @return Signatures of methods of the class with no or a single parameter.
+     */
+    private static Set<String> compute(PsiClass cls) {
+        Set<String> res = new HashSet<>();
+
+        for (Pair<PsiMethod, PsiSubstitutor> pair : cls.getAllMethodsAndTheirSubstitutors()) {
+            PsiMethod mtd = pair.getFirst();
+
+            if (mtd.isConstructor())
+                continue;
+
+            PsiParameter[] params = mtd.getParameterList().getParameters();
+
+            if (params.length == 0)
+                res.add(mtd.getName() + "()");
+            else if (params.length == 1) {
+                // Type parameters of supers as seen from the class, e.g. T of Base<T> is String in Base<String>.
+                res.add(setterSignature(mtd.getName(), pair.getSecond().substitute(params[0].getType())));
+            }
+        }
+
+        return Collections.unmodifiableSet(res);
+    }
+
+    /**
+     * @param name Method name.
+     * @param type Parameter type.
+     * @return Signature.
+     */
+    private static String setterSignature(String name, PsiType type) {
+        return name + '(' + TypeConversionUtil.erasure(type).getCanonicalText() + ')';
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.util;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiComment;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiWhiteSpace;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Layout checks of the style rules.
+ * <p>
+ * Lines are taken from the line offsets table of the file document, so a check is a couple of binary searches and
+ * no text of the elements is built. If the document is not in sync with PSI, e.g. while a quick fix modifies PSI,
+ * line breaks are counted in the file text.
+ */
+public abstract class IgniteLayoutUtils {
+    /**
+     * Checks whether the first element ends on the line where the second one starts.
+     *
+     * @param first Element.
+     * @param second Element that follows the first one in the same file.
+     * @return {@code true} if there is no line break between the elements.
+     */
+    public static boolean sameLine(@NotNull PsiElement first, @NotNull PsiElement second) {
+        return lineBreaks(first, first.getTextRange().getEndOffset(), second.getTextRange().getStartOffset()) == 0;
+    }
+
+    /**
+     * @param element Element.
+     * @return {@code true} if the element has no line breaks.
+     */
+    public static boolean isSingleLine(@NotNull PsiElement element) {
+        TextRange range = element.getTextRange();
+
+        return lineBreaks(element, range.getStartOffset(), range.getEndOffset()) == 0;
+    }
+
+    /**
+     * Counts blank lines between the end of the first element and the start of the second one.
+     *
+     * @param first Element.
+     * @param second Element that follows the first one in the same file.
+     * @return Number of lines that lie between the elements.
+     */
+    public static int blankLinesBetween(@NotNull PsiElement first, @NotNull PsiElement second) {
+        int breaks = lineBreaks(first, first.getTextRange().getEndOffset(), second.getTextRange().getStartOffset());
+
+        return Math.max(breaks - 1, 0);
+    }
+
+    /**
+     * Checks whether an element is separated by a line break from the nearest element that is neither a whitespace
+     * nor a comment, looking across parents.
+     *
+     * @param element Element.
+     * @param forward Whether to check the following element or the preceding one.
+     * @return {@code true} if there is a line break or there is no such element in the file.
+     */
+    public static boolean hasLineBreak(@NotNull PsiElement element, boolean forward) {
+        PsiElement neighbour = significantLeaf(element, forward);
+
+        if (neighbour == null)
+            return true;
+
+        return forward ? !sameLine(element, neighbour) : !sameLine(neighbour, element);
+    }
+
+    /**
+     * @param element Element.
+     * @param forward Whether to look for the following leaf or the preceding one.
+     * @return Nearest non-empty leaf outside of the element that is neither a whitespace nor a part of a comment.
+     */
+    @Nullable private static PsiElement significantLeaf(PsiElement element, boolean forward) {
+        PsiElement leaf = element;
+
+        while (true) {
+            leaf = forward ? PsiTreeUtil.nextLeaf(leaf) : PsiTreeUtil.prevLeaf(leaf);
+
+            if (leaf == null)
+                return null;
+
+            if (leaf.getTextLength() == 0 || leaf instanceof PsiWhiteSpace)
+                continue;
+
+            // Leaves of a doc comment are not comments, the whole comment is skipped.
+            PsiComment comment = PsiTreeUtil.getParentOfType(leaf, PsiComment.class, false);
+
+            if (comment != null) {
+                leaf = comment;
+
+                continue;
+            }
+
+            return leaf;
+        }
+    }
+
+    /**
+     * @param ctx Element of the file.
+     * @param from Start offset.
+     * @param to End offset, not less than the start one.
+     * @return Number of line breaks between the offsets.
+     */
+    private static int lineBreaks(PsiElement ctx, int from, int to) {
+        if (from >= to)
+            return 0;
+
+        PsiFile file = ctx.getContainingFile();
+
+        PsiDocumentManager docMgr = PsiDocumentManager.getInstance(file.getProject());
+
+        Document doc = docMgr.getDocument(file);
+
+        if (doc != null && docMgr.isCommitted(doc) && !docMgr.isDocumentBlockedByPsi(doc))
+            return doc.getLineNumber(to) - doc.getLineNumber(from);
+
+        return StringUtil.countNewLines(file.getNode().getChars().subSequence(from, to));
+    }
+}
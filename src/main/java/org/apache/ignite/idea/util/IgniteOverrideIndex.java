@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.util;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+
+/**
+ * Per-class cache of methods that override or implement a super class method.
+ * <p>
+ * Methods of a class are resolved against its hierarchy at once, on the first request, and the result is kept until
+ * the next PSI modification. Only methods that share a name with a super class method are checked with
+ * {@link PsiMethod#findSuperMethods()}, the rest are looked up in the class members map cached by the platform.
+ */
+public abstract class IgniteOverrideIndex {
+    /**
+     * Checks whether a method overrides or implements a super class method. Must be called inside a read action.
+     *
+     * @param mtd Method.
+     * @return {@code true} if the method has a super method.
+     */
+    public static boolean isOverride(PsiMethod mtd) {
+        PsiClass cls = mtd.getContainingClass();
+
+        return cls != null && overriding(cls).contains(mtd);
+    }
+
+    /**
+     * @param cls Class.
+     * @return Methods of the class that override or implement a super class method.
+     */
+    public static Set<PsiMethod> overriding(PsiClass cls) {
+        return CachedValuesManager.getCachedValue(cls, () ->
+            CachedValueProvider.Result.create(compute(cls), PsiModificationTracker.MODIFICATION_COUNT));
+    }
+
+    /**
+     * @param cls Class.
+     * @return Methods of the class that override or implement a super class method.
+     */
+    private static Set<PsiMethod> compute(PsiClass cls) {
+        Set<PsiMethod> res = null;
+
+        for (PsiMethod mtd : cls.getMethods()) {
+            if (mtd.isConstructor() || !hasSuperNamesake(cls, mtd))
+                continue;
+
+            if (mtd.findSuperMethods().length > 0) {
+                if (res == null)
+                    res = new HashSet<>();
+
+                res.add(mtd);
+            }
+        }
+
+        return res != null ? Collections.unmodifiableSet(res) : Collections.emptySet();
+    }
+
+    /**
+     * @param cls Class.
+     * @param mtd Method of the class.
+     * @return Whether a super class of the class has a method with the same name.
+     */
+    private static boolean hasSuperNamesake(PsiClass cls, PsiMethod mtd) {
+        for (PsiMethod candidate : cls.findMethodsByName(mtd.getName(), true)) {
+            if (candidate.getContainingClass() != cls)
+                return true;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.util;
+
+import com.intellij.ProjectTopics;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.util.PathUtil;
+import com.intellij.util.messages.MessageBusConnection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+/**
+ * Locates a file at a fixed path relative to one of the project content roots,
+ * e.g. {@code idea/abbreviation.properties}.
+ * <p>
+ * Lookup walks every content root of every module, so its result is cached. The cache is dropped
+ * only when a VFS event touches a file or directory named like one of the path segments, when
+ * the found file itself is moved or deleted, or when project roots change.
+ */
+public class IgniteProjectFileLocator {
+    /** Project. */
+    private final Project project;
+
+    /** Path segments relative to a content root. */
+    private final String[] relPath;
+
+    /** Names of the path segments, used to filter VFS events. */
+    private final Set<String> names;
+
+    /** Found file or {@code null} if there is no such file. */
+    private volatile VirtualFile file;
+
+    /** Whether {@link #file} must be looked up again. */
+    private volatile boolean stale = true;
+
+    /** Incremented whenever the lookup result may change. */
+    private final SimpleModificationTracker modTracker = new SimpleModificationTracker();
+
+    /** Number of performed lookups. */
+    private final AtomicInteger scanCnt = new AtomicInteger();
+
+    /**
+     * @param project Project.
+     * @param parent Disposable that controls the lifetime of the VFS and roots subscriptions.
+     * @param relPath Path segments relative to a content root.
+     */
+    public IgniteProjectFileLocator(@NotNull Project project, @NotNull Disposable parent, @NotNull String... relPath) {
+        this.project = project;
+        this.relPath = relPath;
+
+        names = Set.of(relPath);
+
+        MessageBusConnection conn = project.getMessageBus().connect(parent);
+
+        conn.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            /** {@inheritDoc} */
+            @Override public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent evt : events) {
+                    if (isRelevant(evt)) {
+                        invalidate();
+
+                        return;
+                    }
+                }
+            }
+        });
+
+        conn.subscribe(ProjectTopics.PROJECT_ROOTS, new ModuleRootListener() {
+            /** {@inheritDoc} */
+            @Override public void rootsChanged(@NotNull ModuleRootEvent evt) {
+                invalidate();
+            }
+        });
+    }
+
+    /**
+     * Gets located file. Must be called inside a read action.
+     *
+     * @return Located file or {@code null} if there is no such file in any content root.
+     */
+    @Nullable public VirtualFile getFile() {
+        if (stale) {
+            synchronized (this) {
+                if (stale) {
+                    // Reset the flag before the lookup: an event that arrives meanwhile will set it again.
+                    stale = false;
+
+                    file = find();
+
+                    scanCnt.incrementAndGet();
+                }
+            }
+        }
+
+        VirtualFile f = file;
+
+        return f != null && f.isValid() ? f : null;
+    }
+
+    /**
+     * Drops the cached lookup result.
+     */
+    public void invalidate() {
+        stale = true;
+
+        modTracker.incModificationCount();
+    }
+
+    /**
+     * @return Tracker of changes of the lookup result, for values that depend on the presence of the file.
+     */
+    public ModificationTracker getModificationTracker() {
+        return modTracker;
+    }
+
+    /**
+     * @return Number of content root scans performed so far.
+     */
+    @TestOnly
+    public int getScanCount() {
+        return scanCnt.get();
+    }
+
+    /**
+     * Scans content roots of all modules for the file.
+     *
+     * @return Found file or {@code null}.
+     */
+    @Nullable private VirtualFile find() {
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            for (VirtualFile root : ModuleRootManager.getInstance(module).getContentRoots()) {
+                VirtualFile found = VfsUtil.findRelativeFile(root, relPath);
+
+                if (found != null && !found.isDirectory())
+                    return found;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks whether given VFS event may change the lookup result.
+     *
+     * @param evt VFS event.
+     * @return {@code true} if the event is relevant.
+     */
+    private boolean isRelevant(VFileEvent evt) {
+        if (names.contains(PathUtil.getFileName(evt.getPath())))
+            return true;
+
+        if (evt instanceof VFilePropertyChangeEvent) {
+            VFilePropertyChangeEvent propEvt = (VFilePropertyChangeEvent)evt;
+
+            if (propEvt.isRename() && names.contains((String)propEvt.getOldValue()))
+                return true;
+        }
+
+        // Copied or moved directory may contain the file.
+        if ((evt instanceof VFileMoveEvent || evt instanceof VFileCopyEvent) && evt.getFile() != null &&
+            evt.getFile().isDirectory())
+            return true;
+
+        VirtualFile f = file;
+
+        // Deletion, move or rename of any parent of the found file.
+        return f != null && f.getPath().startsWith(evt.getPath() + '/');
+    }
+}
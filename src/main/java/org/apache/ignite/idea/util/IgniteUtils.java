@@ -26,17 +26,78 @@ import java.util.*;
  */
 public abstract class IgniteUtils {
     /**
-     * Input-output closure with 2 input parameters.
+     * Transformer of camel case parts.
      */
-    public interface Closure2<E1, E2, R> {
+    public interface CamelCaseTransformer {
         /**
-         * Closure method.
+         * Appends transformed camel case part to the output.
          *
-         * @param in1 Input parameter 1.
-         * @param in2 Input parameter 2.
-         * @return Closure result.
+         * @param s Camel case string.
+         * @param start Part start offset, inclusive.
+         * @param end Part end offset, exclusive.
+         * @param idx Part index.
+         * @param out Output.
          */
-        public R apply(E1 in1, E2 in2);
+        public void apply(CharSequence s, int start, int end, int idx, StringBuilder out);
+    }
+
+    /**
+     * Reusable buffer of camel case part boundaries filled by {@link #splitCamelCase(CharSequence, CamelCaseSpans)}.
+     * Not thread safe.
+     */
+    public static final class CamelCaseSpans {
+        /** Start and end offsets of the parts, two ints per part. */
+        private int[] bounds = new int[16];
+
+        /** Number of parts. */
+        private int size;
+
+        /**
+         * @return Number of parts.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @param idx Part index.
+         * @return Part start offset, inclusive.
+         */
+        public int start(int idx) {
+            return bounds[idx << 1];
+        }
+
+        /**
+         * @param idx Part index.
+         * @return Part end offset, exclusive.
+         */
+        public int end(int idx) {
+            return bounds[(idx << 1) + 1];
+        }
+
+        /**
+         * @param idx Part index.
+         * @return Part length.
+         */
+        public int length(int idx) {
+            return end(idx) - start(idx);
+        }
+
+        /**
+         * @param start Part start offset, inclusive.
+         * @param end Part end offset, exclusive.
+         */
+        private void add(int start, int end) {
+            int pos = size << 1;
+
+            if (pos == bounds.length)
+                bounds = Arrays.copyOf(bounds, pos << 1);
+
+            bounds[pos] = start;
+            bounds[pos + 1] = end;
+
+            size++;
+        }
     }
 
     /**
@@ -66,20 +127,38 @@ public abstract class IgniteUtils {
      * @return List containing camel case parts.
      */
     public static List<String> camelCaseParts(String camelCase) {
-        List<String> res = new LinkedList<String>();
+        CamelCaseSpans spans = splitCamelCase(camelCase, new CamelCaseSpans());
+
+        List<String> res = new ArrayList<>(spans.size());
+
+        for (int i = 0; i < spans.size(); i++)
+            res.add(camelCase.substring(spans.start(i), spans.end(i)));
 
-        StringBuilder sb = new StringBuilder();
+        return res;
+    }
+
+    /**
+     * Splits camel case string into parts without allocating part strings. Parts are contiguous and cover
+     * the whole string: {@code remoteTopVERSION42} is split to {@code remote}, {@code Top}, {@code VERSION} and
+     * {@code 42}. Every char that is neither a letter with case nor a digit makes a separate part.
+     *
+     * @param camelCase Camel case string.
+     * @param spans Buffer to fill with part boundaries, previous content is discarded.
+     * @return Filled {@code spans}.
+     */
+    public static CamelCaseSpans splitCamelCase(CharSequence camelCase, CamelCaseSpans spans) {
+        spans.size = 0;
 
         ParserState state = ParserState.START;
 
-        char pending = 0;
+        int start = 0;
 
         for (int i = 0; i < camelCase.length(); i++) {
             char c = camelCase.charAt(i);
 
             switch (state) {
                 case START:
-                    sb.append(c);
+                    start = i;
 
                     if (Character.isLowerCase(c))
                         state = ParserState.WORD;
@@ -87,53 +166,34 @@ public abstract class IgniteUtils {
                         state = ParserState.CAPITAL;
                     else if (Character.isDigit(c))
                         state = ParserState.NUM;
-                    else {
-                        res.add(sb.toString());
-
-                        sb.setLength(0);
+                    else
+                        spans.add(i, i + 1);
 
-                        // Remain in start state.
-                    }
                     break;
 
                 case CAPITAL:
-                    if (Character.isLowerCase(c)) {
-                        sb.append(c);
-
+                    if (Character.isLowerCase(c))
                         state = ParserState.WORD;
-                    }
-                    else if (Character.isUpperCase(c)) {
-                        pending = c;
-
+                    else if (Character.isUpperCase(c))
                         state = ParserState.ABBREVIATION;
-                    }
                     else if (Character.isDigit(c)) {
-                        res.add(sb.toString());
-
-                        sb.setLength(0);
+                        spans.add(start, i);
 
-                        sb.append(c);
+                        start = i;
 
                         state = ParserState.NUM;
                     }
                     else {
-                        res.add(sb.toString());
-
-                        sb.setLength(0);
-
-                        res.add(String.valueOf(c));
+                        spans.add(start, i);
+                        spans.add(i, i + 1);
 
                         state = ParserState.START;
                     }
                     break;
 
                 case WORD:
-                    if (Character.isLowerCase(c))
-                        sb.append(c);
-                    else {
-                        res.add(sb.toString());
-
-                        sb.setLength(0);
+                    if (!Character.isLowerCase(c)) {
+                        spans.add(start, i);
 
                         state = ParserState.START;
 
@@ -143,26 +203,16 @@ public abstract class IgniteUtils {
                     break;
 
                 case ABBREVIATION:
-                    if (Character.isUpperCase(c)) {
-                        sb.append(pending);
-
-                        pending = c;
-                    }
-                    else if (Character.isLowerCase(c)) {
-                        res.add(sb.toString());
-
-                        sb.setLength(0);
+                    if (Character.isLowerCase(c)) {
+                        // Last capital letter starts a new word.
+                        spans.add(start, i - 1);
 
-                        sb.append(pending).append(c);
+                        start = i - 1;
 
                         state = ParserState.WORD;
                     }
-                    else {
-                        sb.append(pending);
-
-                        res.add(sb.toString());
-
-                        sb.setLength(0);
+                    else if (!Character.isUpperCase(c)) {
+                        spans.add(start, i);
 
                         state = ParserState.START;
 
@@ -172,12 +222,8 @@ public abstract class IgniteUtils {
                     break;
 
                 case NUM:
-                    if (Character.isDigit(c))
-                        sb.append(c);
-                    else {
-                        res.add(sb.toString());
-
-                        sb.setLength(0);
+                    if (!Character.isDigit(c)) {
+                        spans.add(start, i);
 
                         state = ParserState.START;
 
@@ -188,13 +234,63 @@ public abstract class IgniteUtils {
             }
         }
 
-        if (state == ParserState.ABBREVIATION)
-            sb.append(pending);
+        if (state != ParserState.START)
+            spans.add(start, camelCase.length());
+
+        return spans;
+    }
+
+    /**
+     * Appends lower-cased char sequence region.
+     *
+     * @param sb String builder.
+     * @param s Char sequence.
+     * @param start Region start offset, inclusive.
+     * @param end Region end offset, exclusive.
+     * @param capitalizeFirst Whether to upper-case the first char.
+     * @return {@code sb}.
+     */
+    public static StringBuilder appendLowerCase(StringBuilder sb, CharSequence s, int start, int end,
+        boolean capitalizeFirst) {
+        for (int i = start; i < end; i++) {
+            char c = Character.toLowerCase(s.charAt(i));
+
+            sb.append(capitalizeFirst && i == start ? Character.toUpperCase(c) : c);
+        }
+
+        return sb;
+    }
 
-        if (sb.length() > 0)
-            res.add(sb.toString());
+    /**
+     * Appends char sequence region capitalized the same way as {@link #capitalizeFirst(String)} does it.
+     *
+     * @param sb String builder.
+     * @param s Char sequence.
+     * @param start Region start offset, inclusive.
+     * @param end Region end offset, exclusive.
+     * @return {@code sb}.
+     */
+    public static StringBuilder appendCapitalized(StringBuilder sb, CharSequence s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
 
-        return res;
+            sb.append(i == start || end - start < 2 ? Character.toUpperCase(c) : c);
+        }
+
+        return sb;
+    }
+
+    /**
+     * Checks whether char sequence region consists of a single given char.
+     *
+     * @param s Char sequence.
+     * @param start Region start offset, inclusive.
+     * @param end Region end offset, exclusive.
+     * @param c Char.
+     * @return {@code true} if the region is exactly {@code c}.
+     */
+    public static boolean isChar(CharSequence s, int start, int end, char c) {
+        return end - start == 1 && s.charAt(start) == c;
     }
 
     /**
@@ -227,18 +323,16 @@ public abstract class IgniteUtils {
      * Transforms camel case string.
      *
      * @param camelCase Camel case string.
-     * @param c Transform closure: 1-st parameter - camel case string part;
-     *          2-nd parameter - part index;
-     *          return - transformed part.
+     * @param t Transformer that appends every transformed part to the output.
      * @return Concatenation of all transformed string parts.
      */
-    @SuppressWarnings("ToArrayCallWithZeroLengthArrayArgument")
-    public static String transformCamelCase(String camelCase, Closure2<String, Integer, String> c) {
-        String[] parts = camelCaseParts(camelCase).toArray(new String[]{});
-        StringBuilder sb = new StringBuilder();
+    public static String transformCamelCase(CharSequence camelCase, CamelCaseTransformer t) {
+        CamelCaseSpans spans = splitCamelCase(camelCase, new CamelCaseSpans());
+
+        StringBuilder sb = new StringBuilder(camelCase.length() + 16);
 
-        for (int i = 0; i < parts.length; i++)
-            sb.append(c.apply(parts[i], i));
+        for (int i = 0; i < spans.size(); i++)
+            t.apply(camelCase, spans.start(i), spans.end(i), i, sb);
 
         return sb.toString();
     }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.action;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.intellij.util.containers.MultiMap;
+import org.apache.ignite.idea.inspection.abbrev.IgniteBulkRename;
+import org.apache.ignite.idea.intention.IgniteGetterSetterSubstitutor;
+
+/** Tests {@link IgniteIgnitifyAction}. */
+public class IgniteIgnitifyActionTest extends LightJavaCodeInsightFixtureTestCase {
+    /** Tests renaming of getters and setters of a package with usages in another package. */
+    public void testPackage() {
+        myFixture.addClass("package api; public interface Named { String getName(); }");
+
+        PsiFile cfg = myFixture.addFileToProject("cfg/Config.java", "package cfg;\n" +
+            "public class Config implements api.Named {\n" +
+            "    private int size;\n" +
+            "    public int getSize() { return size; }\n" +
+            "    public void setSize(int size) { this.size = size; }\n" +
+            "    public int size() { return size; }\n" +
+            "    public void setDefault(boolean dflt) {}\n" +
+            "    public String getName() { return null; }\n" +
+            "    public static class Nested { public long getTimeout() { return 0; } }\n" +
+            "}");
+
+        PsiFile subCfg = myFixture.addFileToProject("cfg/CacheConfig.java", "package cfg;\n" +
+            "public class CacheConfig extends Config {\n" +
+            "    @Override public void setSize(int size) {}\n" +
+            "    @Override public int getSize() { return 1; }\n" +
+            "    @Override public String getName() { return \"cache\"; }\n" +
+            "}");
+
+        PsiFile client = myFixture.addFileToProject("client/Client.java", "package client;\n" +
+            "class Client {\n" +
+            "    long f(cfg.Config cfg) {\n" +
+            "        cfg.setSize(1);\n" +
+            "        return new cfg.Config.Nested().getTimeout();\n" +
+            "    }\n" +
+            "}");
+
+        PsiDirectory pkg = cfg.getContainingDirectory();
+
+        Collection<PsiClass> classes = IgniteIgnitifyAction.classes(getProject(), List.of(pkg));
+
+        assertEquals(Set.of("Config", "Nested", "CacheConfig"),
+            classes.stream().map(PsiClass::getName).collect(Collectors.toSet()));
+
+        IgniteBulkRename rename = new IgniteBulkRename(getProject());
+
+        MultiMap<PsiElement, String> conflicts = IgniteGetterSetterSubstitutor.collect(classes, rename);
+
+        // getSize() clashes with size(), setDefault() and getName() can not be renamed, so overriding methods are kept
+        // too.
+        assertEquals(Set.of("Config.getSize", "CacheConfig.getSize", "Config.setDefault", "Config.getName",
+            "CacheConfig.getName"),
+            conflicts.keySet().stream()
+                .map(e -> ((PsiMethod)e).getContainingClass().getName() + '.' + ((PsiMethod)e).getName())
+                .collect(Collectors.toSet()));
+
+        // Both setters and the nested class getter.
+        assertEquals(3, rename.size());
+
+        rename.run();
+
+        assertEquals("package client;\n" +
+            "class Client {\n" +
+            "    long f(cfg.Config cfg) {\n" +
+            "        cfg.size(1);\n" +
+            "        return new cfg.Config.Nested().timeout();\n" +
+            "    }\n" +
+            "}", client.getText());
+
+        assertTrue(cfg.getText().contains("public int getSize()"));
+        assertTrue(cfg.getText().contains("public void size(int size)"));
+        assertTrue(subCfg.getText().contains("@Override public int getSize()"));
+        assertTrue(subCfg.getText().contains("@Override public String getName()"));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.batch;
+
+import java.nio.file.Files;
+import java.util.List;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import org.apache.ignite.idea.inspection.abbrev.IgniteAbbreviationInspection;
+
+/** Tests {@link IgniteBatchInspector}. */
+public class IgniteBatchInspectorTest extends LightJavaCodeInsightFixtureTestCase {
+    /** Tests that suppressed problems are not reported. */
+    public void testSuppressed() throws Exception {
+        myFixture.enableInspections(new IgniteAbbreviationInspection());
+
+        PsiFile file = myFixture.configureByText("Node.java", "class Node {\n" +
+            "    int count;\n" +
+            "\n" +
+            "    @SuppressWarnings(\"JavaAbbreviationUsage\")\n" +
+            "    int buffer;\n" +
+            "\n" +
+            "    void f() {\n" +
+            "        //noinspection JavaAbbreviationUsage\n" +
+            "        int address = count;\n" +
+            "    }\n" +
+            "}");
+
+        IgniteBatchInspector inspector = new IgniteBatchInspector(getProject(),
+            new IgniteBatchOptions(Files.createTempDirectory("ignite-inspect")));
+
+        List<IgniteViolation> violations = inspector.inspect(file.getVirtualFile());
+
+        assertEquals(1, violations.size());
+        assertEquals("JavaAbbreviationUsage", violations.get(0).ruleId());
+        assertEquals(2, violations.get(0).line());
+    }
+}
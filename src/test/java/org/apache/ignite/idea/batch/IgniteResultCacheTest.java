@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.batch;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import junit.framework.TestCase;
+
+/** Tests {@link IgniteResultCache}. */
+public class IgniteResultCacheTest extends TestCase {
+    /** Violations of a file. */
+    private static final List<IgniteViolation> VIOLATIONS = List.of(
+        new IgniteViolation("IgniteBracket", "warning", "Illegal '{ }' for one line statement", 3, 5),
+        new IgniteViolation("JavaAbbreviationUsage", "error", "Abbreviation should be used: \u00e9", 10, 1));
+
+    /** Tests that results survive save and open. */
+    public void testRoundtrip() throws Exception {
+        Path file = Files.createTempDirectory("ignite-cache").resolve("cache");
+
+        IgniteResultCache cache = IgniteResultCache.open(file);
+
+        assertEquals(0, cache.size());
+
+        for (long key = -50; key < 50; key++)
+            cache.put(key * 7919, key == 0 ? VIOLATIONS : List.of());
+
+        cache.save(false);
+
+        cache = IgniteResultCache.open(file);
+
+        assertEquals(100, cache.size());
+        assertEquals(VIOLATIONS, cache.get(0));
+        assertEquals(List.of(), cache.get(-50 * 7919));
+        assertEquals(List.of(), cache.get(49 * 7919));
+        assertNull(cache.get(1));
+    }
+
+    /** Tests that a full run drops unused entries while an incremental run keeps them. */
+    public void testUnusedEntries() throws Exception {
+        Path file = Files.createTempDirectory("ignite-cache").resolve("cache");
+
+        IgniteResultCache cache = IgniteResultCache.open(file);
+
+        cache.put(1, VIOLATIONS);
+        cache.put(2, VIOLATIONS);
+        cache.save(false);
+
+        cache = IgniteResultCache.open(file);
+
+        cache.get(1);
+        cache.put(3, List.of());
+        cache.save(true);
+
+        cache = IgniteResultCache.open(file);
+
+        assertEquals(3, cache.size());
+
+        cache.get(1);
+        cache.save(false);
+
+        cache = IgniteResultCache.open(file);
+
+        assertEquals(1, cache.size());
+        assertEquals(VIOLATIONS, cache.get(1));
+        assertNull(cache.get(2));
+    }
+
+    /** Tests that an invalid file results in an empty cache. */
+    public void testInvalidFile() throws Exception {
+        Path file = Files.createTempDirectory("ignite-cache").resolve("cache");
+
+        Files.write(file, "not a cache".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(0, IgniteResultCache.open(file).size());
+    }
+
+    /** Tests that keys depend on the salt, the path and the content. */
+    public void testKey() {
+        byte[] salt = "rules".getBytes(StandardCharsets.UTF_8);
+        byte[] content = "class A {}".getBytes(StandardCharsets.UTF_8);
+
+        long key = IgniteResultCache.key(salt, "src/A.java", content);
+
+        assertEquals(key, IgniteResultCache.key(salt, "src/A.java", content));
+        assertFalse(key == IgniteResultCache.key("other".getBytes(StandardCharsets.UTF_8), "src/A.java", content));
+        assertFalse(key == IgniteResultCache.key(salt, "src/B.java", content));
+        assertFalse(key == IgniteResultCache.key(salt, "src/A.java", "class A { }".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /** Tests that a cache file read by an open cache can be replaced by its save again and again. */
+    public void testRepeatedSave() throws Exception {
+        Path file = Files.createTempDirectory("ignite-cache").resolve("cache");
+
+        IgniteResultCache cache = IgniteResultCache.open(file);
+
+        cache.put(1, VIOLATIONS);
+        cache.save(false);
+
+        for (long key = 2; key <= 3; key++) {
+            cache = IgniteResultCache.open(file);
+
+            assertEquals(VIOLATIONS, cache.get(1));
+
+            cache.put(key, List.of());
+            cache.save(true);
+        }
+
+        cache = IgniteResultCache.open(file);
+
+        assertEquals(3, cache.size());
+        assertEquals(VIOLATIONS, cache.get(1));
+        assertEquals(List.of(), cache.get(3));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.batch;
+
+import java.io.StringWriter;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import junit.framework.TestCase;
+
+/** Tests {@link IgniteSarifWriter} and {@link IgniteBatchOptions}. */
+public class IgniteSarifWriterTest extends TestCase {
+    /** Tests SARIF log with results. */
+    public void testResults() throws Exception {
+        StringWriter out = new StringWriter();
+
+        try (IgniteSarifWriter sarif = new IgniteSarifWriter(out, "tool", "1.0",
+            Map.of("IgniteBracket", "Illegal '{ }' for one line statement"))) {
+            sarif.result("IgniteBracket", "warning", "Quote \" and\nnew line", "src/A.java", 3, 5);
+            sarif.result("IgniteBracket", "error", "Tab\t", "src/B.java", 1, 1);
+
+            assertEquals(2, sarif.count());
+        }
+
+        String log = out.toString();
+
+        assertTrue(log, log.contains("\"version\": \"2.1.0\""));
+        assertTrue(log, log.contains("{\"id\": \"IgniteBracket\", \"shortDescription\": " +
+            "{\"text\": \"Illegal '{ }' for one line statement\"}}"));
+        assertTrue(log, log.contains("\"message\": {\"text\": \"Quote \\\" and\\nnew line\"}"));
+        assertTrue(log, log.contains("\"uri\": \"src/B.java\"}, \"region\": {\"startLine\": 1, \"startColumn\": 1}"));
+        assertTrue(log, log.endsWith("}\n    ]\n  }]\n}\n"));
+    }
+
+    /** Tests SARIF log without results. */
+    public void testNoResults() throws Exception {
+        StringWriter out = new StringWriter();
+
+        new IgniteSarifWriter(out, "tool", "1.0", Map.of()).close();
+
+        assertTrue(out.toString(), out.toString().endsWith("\"rules\": []}},\n    \"results\": []\n  }]\n}\n"));
+    }
+
+    /** Tests command line parsing. */
+    public void testOptions() {
+        IgniteBatchOptions opts = IgniteBatchOptions.parse(List.of("igniteInspect", "/tmp/ignite", "--threads", "3"));
+
+        assertEquals(Paths.get("/tmp/ignite"), opts.projectDir());
+        assertEquals(Paths.get("/tmp/ignite/ignite-inspections.sarif"), opts.output());
+        assertEquals(3, opts.threads());
+        assertEquals(Paths.get("/tmp/ignite/.ignite-inspect-cache"), opts.cache());
+        assertFalse(opts.incremental());
+
+        opts = IgniteBatchOptions.parse(List.of("igniteInspect", "/tmp/ignite", "--since", "origin/master",
+            "--no-cache"));
+
+        assertEquals("origin/master", opts.since());
+        assertTrue(opts.incremental());
+        assertNull(opts.cache());
+
+        opts = IgniteBatchOptions.parse(List.of("igniteInspect", "/tmp/ignite", "--changed", "/tmp/changed.txt",
+            "--cache", "/tmp/cache"));
+
+        assertEquals(Paths.get("/tmp/changed.txt"), opts.changed());
+        assertEquals(Paths.get("/tmp/cache"), opts.cache());
+        assertTrue(opts.incremental());
+
+        assertEquals(Paths.get("/tmp/out.sarif"),
+            IgniteBatchOptions.parse(List.of("igniteInspect", "/tmp/ignite", "--output", "/tmp/out.sarif")).output());
+
+        for (List<String> args : List.of(List.of("igniteInspect"), List.of("igniteInspect", "/tmp", "--threads"),
+            List.of("igniteInspect", "/tmp", "--threads", "0"), List.of("igniteInspect", "/tmp", "--foo"),
+            List.of("igniteInspect", "/tmp", "--changed", "a.txt", "--since", "HEAD"))) {
+            try {
+                IgniteBatchOptions.parse(args);
+
+                fail("Invalid arguments accepted: " + args);
+            }
+            catch (IllegalArgumentException ignored) {
+                // Expected.
+            }
+        }
+    }
+}
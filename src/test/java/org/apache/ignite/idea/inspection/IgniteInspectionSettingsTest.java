@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection;
+
+import java.util.List;
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import org.apache.ignite.idea.inspection.comment.IgniteCommentInspection;
+
+/** Tests {@link IgniteInspectionSettings}. */
+public class IgniteInspectionSettingsTest extends LightJavaCodeInsightFixtureTestCase {
+    /** Options before the test. */
+    private IgniteInspectionSettings.Options saved;
+
+    /** {@inheritDoc} */
+    @Override protected void setUp() throws Exception {
+        super.setUp();
+
+        saved = IgniteInspectionSettings.getInstance().getState();
+
+        myFixture.enableInspections(new IgniteWrongComparationInspection(), new IgniteCommentInspection());
+
+        myFixture.addClass("package org.apache.ignite.internal.processors.affinity; " +
+            "public final class AffinityTopologyVersion {}");
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void tearDown() throws Exception {
+        try {
+            IgniteInspectionSettings.getInstance().loadState(saved);
+        }
+        finally {
+            super.tearDown();
+        }
+    }
+
+    /** Tests that resolve-heavy checks are deferred while a file is being edited. */
+    public void testCheapMode() {
+        setOptions(0, 60_000);
+
+        myFixture.configureByText("Cmp.java",
+            "import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;\n" +
+            "/** */\n" +
+            "class Cmp implements Runnable {\n" +
+            "    boolean check(AffinityTopologyVersion a, AffinityTopologyVersion b) {\n" +
+            "        return a == b;\n" +
+            "    }\n" +
+            "\n" +
+            "    public void <caret>run() {}\n" +
+            "}");
+
+        String cmp = new IgniteWrongComparationInspection().getDisplayName();
+
+        // Not edited yet.
+        assertTrue(IgniteInspectionSettings.getInstance().isFullCheck(myFixture.getFile(), true));
+        assertTrue(hasProblem(myFixture.doHighlighting(), cmp));
+        assertFalse(myFixture.filterAvailableIntentions("Add /** {@inheritDoc} */").isEmpty());
+
+        myFixture.type(' ');
+
+        assertFalse(IgniteInspectionSettings.getInstance().isFullCheck(myFixture.getFile(), true));
+        assertTrue(IgniteInspectionSettings.getInstance().isFullCheck(myFixture.getFile(), false));
+
+        assertFalse(hasProblem(myFixture.doHighlighting(), cmp));
+
+        // Run() has no @Override, its super method is not searched.
+        assertTrue(myFixture.filterAvailableIntentions("Add /** {@inheritDoc} */").isEmpty());
+        assertFalse(myFixture.filterAvailableIntentions("Add default comment").isEmpty());
+
+        // Files shorter than the threshold are always checked fully.
+        setOptions(myFixture.getFile().getTextLength() + 1, 60_000);
+
+        assertTrue(hasProblem(myFixture.doHighlighting(), cmp));
+
+        setOptions(0, 0);
+
+        assertTrue(hasProblem(myFixture.doHighlighting(), cmp));
+    }
+
+    /** Tests that the fix for all overriding methods documents the method annotated with @Override in cheap mode. */
+    public void testInheritDocAllCheapMode() {
+        setOptions(0, 60_000);
+
+        myFixture.configureByText("Stop.java", "/** */\n" +
+            "class Stop implements Runnable {\n" +
+            "    @Override public void <caret>stop() {}\n" +
+            "\n" +
+            "    @Override public void run() {}\n" +
+            "}\n");
+
+        Document doc = myFixture.getEditor().getDocument();
+
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> doc.insertString(doc.getTextLength(), "\n"));
+
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+
+        assertFalse(IgniteInspectionSettings.getInstance().isFullCheck(myFixture.getFile(), true));
+
+        // Stop() overrides nothing despite its annotation, so only run() is documented.
+        myFixture.launchAction(
+            myFixture.findSingleIntention("Add /** {@inheritDoc} */ for all overridden/implemented methods"));
+
+        myFixture.checkResult("/** */\n" +
+            "class Stop implements Runnable {\n" +
+            "    @Override public void stop() {}\n" +
+            "\n" +
+            "    /** {@inheritDoc} */\n" +
+            "    @Override public void run() {}\n" +
+            "}\n\n");
+    }
+
+    /**
+     * @param cheapModeMinLength Minimal length of a file with deferred checks.
+     * @param idleDelayMs Idle delay.
+     */
+    private static void setOptions(int cheapModeMinLength, int idleDelayMs) {
+        IgniteInspectionSettings.Options opts = new IgniteInspectionSettings.Options();
+
+        opts.cheapModeMinLength = cheapModeMinLength;
+        opts.idleDelayMs = idleDelayMs;
+
+        IgniteInspectionSettings.getInstance().loadState(opts);
+    }
+
+    /**
+     * @param infos Highlighting.
+     * @param description Problem description.
+     * @return Whether there is a problem with the description.
+     */
+    private static boolean hasProblem(List<HighlightInfo> infos, String description) {
+        return infos.stream().anyMatch(info -> description.equals(info.getDescription()));
+    }
+}
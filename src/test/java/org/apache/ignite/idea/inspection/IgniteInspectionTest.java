@@ -18,9 +18,14 @@
 package org.apache.ignite.idea.inspection;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import com.intellij.codeInsight.daemon.impl.HighlightInfo;
 import com.intellij.codeInsight.intention.IntentionAction;
 import com.intellij.codeInspection.InspectionProfileEntry;
+import com.intellij.openapi.project.DumbServiceImpl;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
 import org.apache.ignite.idea.inspection.abbrev.IgniteAbbreviationInspection;
 import org.apache.ignite.idea.inspection.abbrev.IgniteScalaAbbreviationInspection;
@@ -58,6 +63,9 @@ public class IgniteInspectionTest extends LightJavaCodeInsightFixtureTestCase {
     public void testScalaAbbreviationInspection() {
         checkScalaQuickFix("Abbreviation1", generateFixAllIntentionNameByInspection(new IgniteScalaAbbreviationInspection()));
         checkScalaQuickFix("Abbreviation2", generateFixAllIntentionNameByInspection(new IgniteScalaAbbreviationInspection()));
+
+        // Class parameter used as a field and as a named argument.
+        checkScalaQuickFix("Abbreviation3", generateFixAllIntentionNameByInspection(new IgniteScalaAbbreviationInspection()));
     }
 
     /** Tests {@link IgniteBracketInspection}. */
@@ -76,6 +84,39 @@ public class IgniteInspectionTest extends LightJavaCodeInsightFixtureTestCase {
         checkJavaQuickFix("Comment7", "Add default comment");
     }
 
+    /** Tests that many members without comments are reported as one problem and documented at once. */
+    public void testCommentAggregation() {
+        IgniteInspectionSettings settings = IgniteInspectionSettings.getInstance();
+
+        IgniteInspectionSettings.Options saved = settings.getState();
+
+        IgniteInspectionSettings.Options opts = new IgniteInspectionSettings.Options();
+
+        opts.maxCommentProblems = 3;
+
+        settings.loadState(opts);
+
+        try {
+            myFixture.configureByFile("CommentAll.java");
+
+            String comment = new IgniteCommentInspection().getDisplayName();
+
+            List<String> problems = myFixture.doHighlighting().stream()
+                .map(HighlightInfo::getDescription)
+                .filter(desc -> desc != null && desc.startsWith(comment))
+                .collect(Collectors.toList());
+
+            assertEquals(List.of(comment + " for more than 3 members"), problems);
+
+            myFixture.launchAction(myFixture.findSingleIntention("Document all members"));
+
+            myFixture.checkResultByFile("CommentAll.after.java");
+        }
+        finally {
+            settings.loadState(saved);
+        }
+    }
+
     /** Tests {@link IgnitePlublicInterfaceMethodsInspection}. */
     public void testPublicInterfaceMethodInspection() {
         checkJavaQuickFix("PublicInterfaceMethod", generateFixAllIntentionNameByInspection(new IgnitePlublicInterfaceMethodsInspection()));
@@ -87,6 +128,141 @@ public class IgniteInspectionTest extends LightJavaCodeInsightFixtureTestCase {
         checkJavaQuickFix("EmptyLine2", generateFixAllIntentionNameByInspection(new IgniteEmptyLineInspection()));
     }
 
+    /** Tests {@link IgniteStyleInspection}. */
+    public void testStyleInspection() {
+        String bracket = new IgniteBracketInspection().getDisplayName();
+
+        myFixture.configureByFile("Bracket.java");
+
+        long expected = myFixture.doHighlighting().stream().filter(info -> bracket.equals(info.getDescription())).count();
+
+        assertTrue(expected > 0);
+
+        myFixture.enableInspections(new IgniteStyleInspection());
+
+        long actual = myFixture.doHighlighting().stream().filter(info -> bracket.equals(info.getDescription())).count();
+
+        // Rules report through the composite only.
+        assertEquals(expected, actual);
+
+        myFixture.disableInspections(new IgniteBracketInspection());
+
+        assertTrue(myFixture.doHighlighting().stream().noneMatch(info -> bracket.equals(info.getDescription())));
+    }
+
+    /** Tests that rules checked by {@link IgniteStyleInspection} are suppressed by their own ids. */
+    public void testStyleInspectionSuppression() {
+        myFixture.enableInspections(new IgniteStyleInspection());
+
+        myFixture.configureByText("Suppressed.java", "/** */\n" +
+            "@SuppressWarnings(\"CommentAbsent\")\n" +
+            "public class Suppressed {\n" +
+            "    int f(int a) {\n" +
+            "        //noinspection IgniteBracket\n" +
+            "        if (a > 0) { a++; }\n" +
+            "\n" +
+            "        if (a > 1) { a--; }\n" +
+            "\n" +
+            "        return a;\n" +
+            "    }\n" +
+            "}");
+
+        String bracket = new IgniteBracketInspection().getDisplayName();
+        String comment = new IgniteCommentInspection().getDisplayName();
+
+        List<HighlightInfo> infos = myFixture.doHighlighting();
+
+        assertEquals(1, infos.stream().filter(info -> bracket.equals(info.getDescription())).count());
+        assertTrue(infos.stream().noneMatch(info -> comment.equals(info.getDescription())));
+    }
+
+    /** Tests that syntax rules are checked during indexing and the rest are deferred until indexing is finished. */
+    public void testDumbMode() {
+        myFixture.addClass("package org.jetbrains.annotations; public @interface Nullable {}");
+
+        myFixture.configureByText("Dumb.java", "import org.jetbrains.annotations.*;\n" +
+            "public class Dumb {\n" +
+            "    @Nullable\n" +
+            "    String name() {\n" +
+            "        int <caret>count = 0;\n" +
+            "        if (count > 0) { count++; }\n" +
+            "        return null;\n" +
+            "    }\n" +
+            "}");
+
+        Set<String> syntax = Set.of(
+            new IgniteBracketInspection().getDisplayName(),
+            "Abbreviation should be used",
+            "Annotation @Nullable must be on the same line with the method name");
+
+        String comment = new IgniteCommentInspection().getDisplayName();
+
+        checkDumbMode(syntax, comment);
+
+        myFixture.enableInspections(new IgniteStyleInspection());
+
+        checkDumbMode(syntax, comment);
+    }
+
+    /**
+     * Highlights the file in dumb and then in smart mode.
+     *
+     * @param syntax Descriptions of problems expected in both modes.
+     * @param deferred Description of a problem expected in smart mode only.
+     */
+    private void checkDumbMode(Set<String> syntax, String deferred) {
+        DumbServiceImpl dumbSvc = DumbServiceImpl.getInstance(getProject());
+
+        dumbSvc.setDumb(true);
+
+        try {
+            Set<String> problems = descriptions(myFixture.doHighlighting());
+
+            assertTrue(problems.toString(), problems.containsAll(syntax));
+            assertFalse(problems.contains(deferred));
+        }
+        finally {
+            dumbSvc.setDumb(false);
+        }
+
+        Set<String> problems = descriptions(myFixture.doHighlighting());
+
+        assertTrue(problems.toString(), problems.containsAll(syntax));
+        assertTrue(problems.contains(deferred));
+
+        assertFalse(myFixture.filterAvailableIntentions("Rename to cnt").isEmpty());
+    }
+
+    /** Tests recognition of annotations without resolve. */
+    public void testAnnotationWithoutIndices() {
+        myFixture.configureByText("Annotations.java", "package a;\n" +
+            "import org.jetbrains.annotations.*;\n" +
+            "import javax.annotation.Nonnull;\n" +
+            "class Annotations {\n" +
+            "    @Nullable @org.jetbrains.annotations.NotNull @javax.annotation.Nullable @Override @Nonnull @Local\n" +
+            "    void f() {}\n" +
+            "}");
+
+        PsiAnnotation[] anns = PsiTreeUtil.findChildrenOfType(myFixture.getFile(), PsiAnnotation.class)
+            .toArray(PsiAnnotation.EMPTY_ARRAY);
+
+        assertTrue(IgniteAnnotationInspection.isAnnotation(anns[0], "org.jetbrains.annotations.Nullable", true));
+        assertTrue(IgniteAnnotationInspection.isAnnotation(anns[1], "org.jetbrains.annotations.NotNull", true));
+        assertFalse(IgniteAnnotationInspection.isAnnotation(anns[2], "org.jetbrains.annotations.Nullable", true));
+        assertTrue(IgniteAnnotationInspection.isAnnotation(anns[3], "java.lang.Override", true));
+        assertTrue(IgniteAnnotationInspection.isAnnotation(anns[4], "javax.annotation.Nonnull", true));
+        assertTrue(IgniteAnnotationInspection.isAnnotation(anns[5], "a.Local", true));
+        assertFalse(IgniteAnnotationInspection.isAnnotation(anns[5], "b.Local", true));
+    }
+
+    /**
+     * @param infos Highlighting.
+     * @return Problem descriptions.
+     */
+    private static Set<String> descriptions(List<HighlightInfo> infos) {
+        return infos.stream().map(HighlightInfo::getDescription).collect(Collectors.toSet());
+    }
+
     /**
      * File name pattern 'foo.java' and 'foo.after.java' are matching before and after files
      * in the resources directory. See {@link #checkQuickFix}.
@@ -127,6 +303,44 @@ public class IgniteInspectionTest extends LightJavaCodeInsightFixtureTestCase {
         checkInspection("WrongComparation", new IgniteWrongComparationInspection().getDisplayName());
     }
 
+    /** Tests that {@link IgniteWrongComparationInspection} ignores comparisons of nulls and primitives. */
+    public void testWrongComparationInspectionPrimitives() {
+        myFixture.addClass("package org.apache.ignite.internal.processors.affinity; public final class AffinityTopologyVersion {}");
+
+        myFixture.configureByText("Primitives.java",
+            "import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;\n" +
+            "class Primitives {\n" +
+            "    boolean check(AffinityTopologyVersion ver, long topVer) {\n" +
+            "        return ver == null || null != ver || topVer == 0 || (topVer + 1) != topVer;\n" +
+            "    }\n" +
+            "}");
+
+        String description = new IgniteWrongComparationInspection().getDisplayName();
+
+        assertFalse(myFixture.doHighlighting().stream().anyMatch(info -> description.equals(info.getDescription())));
+    }
+
+    /** Tests that {@link IgniteWrongComparationInspection} checks values of calls in files not naming their type. */
+    public void testWrongComparationInspectionCalls() {
+        myFixture.addClass("package org.apache.ignite.internal.processors.affinity; " +
+            "public final class AffinityTopologyVersion {}");
+        myFixture.addClass("import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;\n" +
+            "public interface Future {\n" +
+            "    AffinityTopologyVersion topologyVersion();\n" +
+            "    AffinityTopologyVersion readyTopologyVersion();\n" +
+            "}");
+
+        myFixture.configureByText("Calls.java", "class Calls {\n" +
+            "    boolean check(Future fut) {\n" +
+            "        return fut.topologyVersion() == fut.readyTopologyVersion();\n" +
+            "    }\n" +
+            "}");
+
+        String description = new IgniteWrongComparationInspection().getDisplayName();
+
+        assertTrue(myFixture.doHighlighting().stream().anyMatch(info -> description.equals(info.getDescription())));
+    }
+
     /**
      * Given the name of a test file, runs comparing references inspection quick fix and tests
      * the results against a reference outcome file.
@@ -0,0 +1,374 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalInspectionEP;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import org.apache.ignite.idea.inspection.abbrev.IgniteAbbreviationInspection;
+import org.apache.ignite.idea.inspection.abbrev.IgniteScalaAbbreviationInspection;
+import org.apache.ignite.idea.inspection.comment.IgniteCommentInspection;
+
+/**
+ * Wall-clock budgets of Apache Ignite inspections on large synthetic files.
+ * <p>
+ * Every inspection runs alone over a class with {@link #MEMBERS} members, then all inspections run together through
+ * the regular highlighting, up to a class of about 50k lines. Budgets are several times the expected time, they are
+ * meant to catch complexity regressions (e.g. an inspection becoming quadratic in the file size), not noise.
+ * <p>
+ * Memory held by quick fixes of all problems of a large class is measured as the number of objects reachable from the
+ * fixes, it must not grow with the number of problems.
+ */
+public class IgnitePerformanceTest extends LightJavaCodeInsightFixtureTestCase {
+    /** Plugin id. */
+    private static final String PLUGIN_ID = "org.apache.ignite.idea";
+
+    /** Number of members in a class checked by a single inspection. */
+    private static final int MEMBERS = 2_000;
+
+    /** Number of members in the largest class, about 11 lines each. */
+    private static final int LARGE_MEMBERS = 4_500;
+
+    /** Number of kinds of quick fixes of the inspections with a fix per problem. */
+    private static final int FIX_KINDS = 7;
+
+    /** Budgets of single inspections over a class with {@link #MEMBERS} members, in milliseconds. */
+    private static final Map<String, Integer> BUDGETS = Map.of(
+        IgniteAbbreviationInspection.class.getName(), 1_500,
+        IgniteScalaAbbreviationInspection.class.getName(), 3_000,
+        IgniteAnnotationInspection.class.getName(), 1_000,
+        IgniteBracketInspection.class.getName(), 1_000,
+        IgniteCommentInspection.class.getName(), 3_000,
+        IgniteEmptyLineInspection.class.getName(), 500,
+        IgniteStyleInspection.class.getName(), 8_000,
+        IgnitePlublicInterfaceMethodsInspection.class.getName(), 500,
+        IgniteWrongComparationInspection.class.getName(), 3_000
+    );
+
+    /** {@inheritDoc} */
+    @Override protected void setUp() throws Exception {
+        super.setUp();
+
+        myFixture.addClass("package org.apache.ignite.internal.processors.affinity; " +
+            "public final class AffinityTopologyVersion {}");
+        myFixture.addClass("package org.jetbrains.annotations; public @interface Nullable {}");
+    }
+
+    /** Tests that every inspection registered by the plugin has a budget. */
+    public void testEveryInspectionHasBudget() {
+        List<LocalInspectionEP> eps = LocalInspectionEP.LOCAL_INSPECTION.getExtensionList();
+
+        int cnt = 0;
+
+        for (LocalInspectionEP ep : eps) {
+            if (ep.getPluginDescriptor() == null || !PLUGIN_ID.equals(ep.getPluginDescriptor().getPluginId().getIdString()))
+                continue;
+
+            assertTrue("No performance budget for " + ep.implementationClass, BUDGETS.containsKey(ep.implementationClass));
+
+            cnt++;
+        }
+
+        assertTrue(cnt > 0);
+    }
+
+    /** Tests {@link IgniteAbbreviationInspection}. */
+    public void testAbbreviationInspection() {
+        checkBudget(new IgniteAbbreviationInspection(), javaFile(MEMBERS));
+    }
+
+    /** Tests {@link IgniteScalaAbbreviationInspection}. */
+    public void testScalaAbbreviationInspection() {
+        checkBudget(new IgniteScalaAbbreviationInspection(), scalaFile(MEMBERS));
+    }
+
+    /** Tests {@link IgniteAnnotationInspection}. */
+    public void testAnnotationInspection() {
+        checkBudget(new IgniteAnnotationInspection(), javaFile(MEMBERS));
+    }
+
+    /** Tests {@link IgniteBracketInspection}. */
+    public void testBracketInspection() {
+        checkBudget(new IgniteBracketInspection(), javaFile(MEMBERS));
+    }
+
+    /** Tests {@link IgniteCommentInspection}. */
+    public void testCommentInspection() {
+        checkBudget(new IgniteCommentInspection(), javaFile(MEMBERS));
+    }
+
+    /** Tests {@link IgniteEmptyLineInspection}. */
+    public void testEmptyLineInspection() {
+        checkBudget(new IgniteEmptyLineInspection(), javaFile(MEMBERS));
+    }
+
+    /** Tests {@link IgnitePlublicInterfaceMethodsInspection}. */
+    public void testPublicInterfaceMethodInspection() {
+        checkBudget(new IgnitePlublicInterfaceMethodsInspection(), javaFile(MEMBERS));
+    }
+
+    /** Tests {@link IgniteWrongComparationInspection}. */
+    public void testWrongComparationInspection() {
+        checkBudget(new IgniteWrongComparationInspection(), javaFile(MEMBERS));
+    }
+
+    /** Tests {@link IgniteStyleInspection}. */
+    public void testStyleInspection() {
+        myFixture.enableInspections(
+            new IgniteAbbreviationInspection(),
+            new IgniteAnnotationInspection(),
+            new IgniteBracketInspection(),
+            new IgniteCommentInspection(),
+            new IgniteEmptyLineInspection(),
+            new IgnitePlublicInterfaceMethodsInspection(),
+            new IgniteWrongComparationInspection()
+        );
+
+        checkBudget(new IgniteStyleInspection(), javaFile(MEMBERS));
+    }
+
+    /** Tests highlighting of a class with thousands of members with all inspections enabled. */
+    public void testAllInspections() {
+        checkHighlightingBudget("all inspections, " + MEMBERS + " members", javaFile(MEMBERS), 10_000);
+    }
+
+    /** Tests highlighting of a 50k lines class with all inspections enabled. */
+    public void testAllInspectionsLargeClass() {
+        checkHighlightingBudget("all inspections, " + LARGE_MEMBERS + " members", javaFile(LARGE_MEMBERS), 30_000);
+    }
+
+    /** Tests that quick fixes are shared by problems and do not keep PSI of the file alive. */
+    public void testQuickFixMemory() {
+        PsiFile file = javaFile(MEMBERS);
+
+        InspectionManager mgr = InspectionManager.getInstance(getProject());
+
+        LocalInspectionTool[] tools = {
+            new IgniteBracketInspection(),
+            new IgniteCommentInspection(),
+            new IgniteEmptyLineInspection(),
+            new IgnitePlublicInterfaceMethodsInspection()
+        };
+
+        int problems = 0;
+
+        Set<Object> fixes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (LocalInspectionTool tool : tools) {
+            for (ProblemDescriptor problem : tool.processFile(file, mgr)) {
+                problems++;
+
+                if (problem.getFixes() != null)
+                    Collections.addAll(fixes, problem.getFixes());
+            }
+        }
+
+        assertTrue(problems > MEMBERS);
+
+        assertTrue("Distinct fixes: " + fixes.size(), fixes.size() <= FIX_KINDS);
+
+        // A fix that captured a member would reach the whole file through its parents.
+        int retained = reachableObjects(fixes, file.getTextLength());
+
+        assertTrue("Objects retained by fixes per problem: " + (double)retained / problems,
+            retained <= FIX_KINDS * 10);
+    }
+
+    /**
+     * Runs a single inspection over the whole file and asserts its budget.
+     *
+     * @param tool Inspection.
+     * @param file File to inspect.
+     */
+    private void checkBudget(LocalInspectionTool tool, PsiFile file) {
+        Integer budget = BUDGETS.get(tool.getClass().getName());
+
+        assertNotNull("No performance budget for " + tool.getClass().getName(), budget);
+
+        InspectionManager mgr = InspectionManager.getInstance(getProject());
+
+        PlatformTestUtil.startPerformanceTest(tool.getClass().getSimpleName(), budget, () -> {
+            List<ProblemDescriptor> problems = tool.processFile(file, mgr);
+
+            assertNotNull(problems);
+        })
+            .setup(() -> getPsiManager().dropPsiCaches())
+            .assertTiming();
+    }
+
+    /**
+     * Highlights the file with all inspections enabled and asserts the budget.
+     *
+     * @param what Test description.
+     * @param file File to highlight.
+     * @param budget Budget in milliseconds.
+     */
+    private void checkHighlightingBudget(String what, PsiFile file, int budget) {
+        myFixture.enableInspections(
+            new IgniteAbbreviationInspection(),
+            new IgniteScalaAbbreviationInspection(),
+            new IgniteAnnotationInspection(),
+            new IgniteBracketInspection(),
+            new IgniteCommentInspection(),
+            new IgniteEmptyLineInspection(),
+            new IgnitePlublicInterfaceMethodsInspection(),
+            new IgniteWrongComparationInspection()
+        );
+
+        myFixture.configureFromExistingVirtualFile(file.getVirtualFile());
+
+        PlatformTestUtil.startPerformanceTest(what, budget, () -> assertFalse(myFixture.doHighlighting().isEmpty()))
+            .setup(() -> getPsiManager().dropPsiCaches())
+            .assertTiming();
+    }
+
+    /**
+     * Counts objects reachable from the roots through instance fields.
+     *
+     * @param roots Roots.
+     * @param limit Number of objects to stop counting at.
+     * @return Number of reachable objects, roots included.
+     */
+    private static int reachableObjects(Collection<Object> roots, int limit) {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Deque<Object> queue = new ArrayDeque<>(roots);
+
+        while (!queue.isEmpty() && seen.size() < limit) {
+            Object obj = queue.poll();
+
+            if (!seen.add(obj))
+                continue;
+
+            Class<?> cls = obj.getClass();
+
+            if (cls.isArray()) {
+                if (!cls.getComponentType().isPrimitive()) {
+                    for (int i = 0; i < Array.getLength(obj); i++) {
+                        Object elem = Array.get(obj, i);
+
+                        if (elem != null)
+                            queue.add(elem);
+                    }
+                }
+
+                continue;
+            }
+
+            for (Class<?> c = cls; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive())
+                        continue;
+
+                    try {
+                        field.setAccessible(true);
+
+                        Object val = field.get(obj);
+
+                        if (val != null)
+                            queue.add(val);
+                    }
+                    catch (RuntimeException | IllegalAccessException ignored) {
+                        // Fields of JDK classes closed by modules are not followed.
+                    }
+                }
+            }
+        }
+
+        return seen.size();
+    }
+
+    /**
+     * Generates a Java class that violates every Apache Ignite rule many times.
+     *
+     * @param members Number of members, every one takes about 11 lines.
+     * @return File.
+     */
+    private PsiFile javaFile(int members) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;\n")
+            .append("import org.jetbrains.annotations.Nullable;\n\n")
+            .append("public class Large").append(members).append(" {\n\n")
+            .append("    private AffinityTopologyVersion lastVersion;\n\n")
+            .append("    interface Listener {\n");
+
+        for (int i = 0; i < members / 10; i++)
+            sb.append("        public void onEvent").append(i).append("(int count);\n");
+
+        sb.append("    }\n\n");
+
+        for (int i = 0; i < members; i++) {
+            sb.append("    private int cacheCount").append(i).append(";\n\n");
+
+            if (i % 10 == 0)
+                sb.append("    @Nullable\n");
+
+            sb.append("    public String processMessage").append(i)
+                .append("(AffinityTopologyVersion topologyVersion, int count) {\n")
+                .append("        if (topologyVersion == lastVersion) {\n")
+                .append("            count++;\n")
+                .append("        }\n\n")
+                .append("        for (int index = 0; index < count; index++)\n")
+                .append("            cacheCount").append(i).append(" += index;\n\n")
+                .append("        return null;\n")
+                .append("    }\n\n");
+        }
+
+        sb.append("}\n");
+
+        return myFixture.addFileToProject("Large" + members + ".java", sb.toString());
+    }
+
+    /**
+     * Generates a Scala class with many identifiers that must be abbreviated.
+     *
+     * @param members Number of members, every one takes about 6 lines.
+     * @return File.
+     */
+    private PsiFile scalaFile(int members) {
+        StringBuilder sb = new StringBuilder("class Large").append(members).append(" {\n");
+
+        for (int i = 0; i < members; i++) {
+            sb.append("  var cacheCount").append(i).append(": Int = 0\n\n")
+                .append("  def processMessage").append(i).append("(topologyVersion: Int, value: Int): Int = {\n")
+                .append("    val messageCount = topologyVersion + value\n")
+                .append("    messageCount\n")
+                .append("  }\n");
+        }
+
+        sb.append("}\n");
+
+        return myFixture.addFileToProject("Large" + members + ".scala", sb.toString());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiType;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import java.util.Set;
+
+/** Tests {@link IgniteUncomparableTypes} and its use by {@link IgniteWrongComparationInspection}. */
+public class IgniteUncomparableTypesTest extends LightJavaCodeInsightFixtureTestCase {
+    /** Tests that inheritors of configured types are uncomparable too. */
+    public void testInheritors() {
+        myFixture.addClass("package org.apache.ignite.internal.processors.cache.version; public class GridCacheVersion {}");
+        myFixture.addClass("package org.apache.ignite.internal.processors.cache.version; " +
+            "public class GridCacheVersionEx extends GridCacheVersion {}");
+
+        IgniteUncomparableTypes.Types types = types();
+
+        assertTrue(types.contains(type("org.apache.ignite.internal.processors.cache.version.GridCacheVersion")));
+        assertTrue(types.contains(type("org.apache.ignite.internal.processors.cache.version.GridCacheVersionEx")));
+        assertFalse(types.contains(PsiType.INT));
+        assertFalse(types.contains(PsiType.getJavaLangString(getPsiManager(), getProject().getAllScope())));
+
+        myFixture.enableInspections(new IgniteWrongComparationInspection());
+
+        myFixture.configureByText("Versions.java",
+            "import org.apache.ignite.internal.processors.cache.version.GridCacheVersionEx;\n" +
+            "class Versions {\n" +
+            "    boolean check(GridCacheVersionEx v1, GridCacheVersionEx v2) {\n" +
+            "        return <warning descr=\"" + new IgniteWrongComparationInspection().getDisplayName() +
+            "\">v1 == v2</warning> || v1 == null;\n" +
+            "    }\n" +
+            "}");
+
+        myFixture.checkHighlighting();
+    }
+
+    /** Tests that project specific list replaces the defaults. */
+    public void testProjectFile() {
+        myFixture.addClass("package org.apache.ignite.lang; public final class IgniteUuid {}");
+        myFixture.addClass("package org.example; public final class Id {}");
+
+        assertTrue(types().contains(type("org.apache.ignite.lang.IgniteUuid")));
+        assertFalse(types().contains(type("org.example.Id")));
+
+        myFixture.addFileToProject("idea/uncomparable-types.txt", "# Ids.\n\norg.example.Id\n");
+
+        assertFalse(types().contains(type("org.apache.ignite.lang.IgniteUuid")));
+        assertTrue(types().contains(type("org.example.Id")));
+    }
+
+    /** Tests that types are resolved again on changes of the list, but not on edits of method bodies. */
+    public void testCache() {
+        myFixture.addClass("package org.example; public final class Id {}");
+        myFixture.addClass("package org.example; public final class Key {}");
+
+        PsiFile list = myFixture.addFileToProject("idea/uncomparable-types.txt", "org.example.Id\n");
+
+        myFixture.configureByText("Edit.java", "class Edit {\n" +
+            "    void f() {\n" +
+            "        int a = 1;<caret>\n" +
+            "    }\n" +
+            "}");
+
+        IgniteUncomparableTypes.Types types = types();
+
+        myFixture.type(" a++;");
+
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+
+        assertSame(types, types());
+
+        Document doc = PsiDocumentManager.getInstance(getProject()).getDocument(list);
+
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> doc.setText("org.example.Key\n"));
+
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+
+        assertEquals(Set.of("org.example.Key"), getProject().getService(IgniteUncomparableTypes.class).getNames());
+        assertFalse(types().contains(type("org.example.Id")));
+        assertTrue(types().contains(type("org.example.Key")));
+    }
+
+    /** Tests that there are no types if none of the configured classes is in the project. */
+    public void testNoClasses() {
+        assertTrue(types().isEmpty());
+    }
+
+    /**
+     * @return Resolved types.
+     */
+    private IgniteUncomparableTypes.Types types() {
+        return getProject().getService(IgniteUncomparableTypes.class).getTypes();
+    }
+
+    /**
+     * @param name Class name.
+     * @return Class type.
+     */
+    private PsiType type(String name) {
+        PsiClass cls = JavaPsiFacade.getInstance(getProject()).findClass(name, getProject().getAllScope());
+
+        assertNotNull(name, cls);
+
+        return JavaPsiFacade.getElementFactory(getProject()).createType(cls);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection.abbrev;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Tests {@link IgniteAbbreviationConfig}. */
+public class IgniteAbbreviationConfigTest extends LightJavaCodeInsightFixtureTestCase {
+    /** Number of rules in a generated config. */
+    private static final int RULES_CNT = 200;
+
+    /** Number of config updates in the stress test. */
+    private static final int GENERATIONS = 50;
+
+    /** Number of reader threads in the stress test. */
+    private static final int READERS = 4;
+
+    /** Tests that unrelated VFS changes do not trigger content root scans. */
+    public void testNoRescanOnUnrelatedVfsChanges() {
+        IgniteAbbreviationConfig cfg = config();
+
+        cfg.getConfig();
+
+        int scans = cfg.scanCount();
+
+        for (int i = 0; i < 100; i++) {
+            PsiFile file = myFixture.addFileToProject("churn/Churn" + i + ".java", "class Churn" + i + " {}");
+
+            myFixture.saveText(file.getVirtualFile(), "class Churn" + i + " { int fld; }");
+
+            cfg.getConfig();
+        }
+
+        assertEquals(scans, cfg.scanCount());
+    }
+
+    /** Tests that project specific config is picked up once it is created. */
+    public void testRescanWhenConfigFileAppears() {
+        IgniteAbbreviationConfig cfg = config();
+
+        assertNull(cfg.getConfig().getAbbreviation("foobar"));
+
+        int scans = cfg.scanCount();
+
+        myFixture.addFileToProject("idea/abbreviation.properties", "foobar=fb");
+
+        assertEquals("fb", cfg.getConfig().getAbbreviation("foobar"));
+        assertEquals(scans + 1, cfg.scanCount());
+
+        // Cached lookup result is reused.
+        assertEquals("fb", cfg.getConfig().getAbbreviation("foobar"));
+        assertEquals(scans + 1, cfg.scanCount());
+    }
+
+    /** Tests that concurrent readers always see a fully built snapshot of a single config generation. */
+    public void testConcurrentReadersSeeConsistentSnapshots() throws Exception {
+        IgniteAbbreviationConfig cfg = config();
+
+        VirtualFile file = myFixture.addFileToProject("idea/abbreviation.properties", rules(0)).getVirtualFile();
+
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicReference<String> err = new AtomicReference<>();
+        AtomicInteger reads = new AtomicInteger();
+
+        List<Future<?>> readers = new ArrayList<>();
+
+        for (int t = 0; t < READERS; t++) {
+            readers.add(ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                while (!stop.get() && err.get() == null) {
+                    ReadAction.run(() -> {
+                        IgniteAbbreviationConfig.Config snapshot = cfg.getConfig();
+
+                        String gen = snapshot.getAbbreviation("generation");
+
+                        for (int i = 0; i < RULES_CNT; i++) {
+                            String abbrev = snapshot.getAbbreviation("word" + i);
+
+                            if (gen == null || !(gen + 'w' + i).equals(abbrev)) {
+                                err.compareAndSet(null, "Inconsistent snapshot [ver=" + snapshot.getVersion() +
+                                    ", generation=" + gen + ", word" + i + '=' + abbrev + ']');
+
+                                return;
+                            }
+                        }
+
+                        reads.incrementAndGet();
+                    });
+                }
+            }));
+        }
+
+        long prevVer = cfg.getConfig().getVersion();
+
+        for (int gen = 1; gen <= GENERATIONS; gen++) {
+            myFixture.saveText(file, rules(gen));
+
+            IgniteAbbreviationConfig.Config snapshot = cfg.getConfig();
+
+            assertEquals("g" + gen, snapshot.getAbbreviation("generation"));
+            assertTrue(snapshot.getVersion() > prevVer);
+
+            prevVer = snapshot.getVersion();
+        }
+
+        stop.set(true);
+
+        for (Future<?> reader : readers)
+            reader.get(30, TimeUnit.SECONDS);
+
+        assertNull(err.get(), err.get());
+        assertTrue(reads.get() > 0);
+    }
+
+    /** Tests that readers racing on a changed file share a single snapshot. */
+    public void testSingleSnapshotPerFileVersion() throws Exception {
+        IgniteAbbreviationConfig cfg = config();
+
+        VirtualFile file = myFixture.addFileToProject("idea/abbreviation.properties", rules(0)).getVirtualFile();
+
+        cfg.getConfig();
+
+        myFixture.saveText(file, rules(1));
+
+        long reloads = cfg.getReloadCount();
+
+        CyclicBarrier barrier = new CyclicBarrier(READERS);
+
+        List<Future<IgniteAbbreviationConfig.Config>> readers = new ArrayList<>();
+
+        for (int t = 0; t < READERS; t++) {
+            readers.add(ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                barrier.await(30, TimeUnit.SECONDS);
+
+                return ReadAction.compute(cfg::getConfig);
+            }));
+        }
+
+        IgniteAbbreviationConfig.Config first = readers.get(0).get(30, TimeUnit.SECONDS);
+
+        for (Future<IgniteAbbreviationConfig.Config> reader : readers)
+            assertSame(first, reader.get(30, TimeUnit.SECONDS));
+
+        assertEquals("g1", first.getAbbreviation("generation"));
+        assertEquals(reloads + 1, cfg.getReloadCount());
+    }
+
+    /**
+     * @param gen Config generation.
+     * @return Config text where every abbreviation is tagged with the generation.
+     */
+    private static String rules(int gen) {
+        StringBuilder sb = new StringBuilder("generation=g").append(gen).append('\n');
+
+        for (int i = 0; i < RULES_CNT; i++)
+            sb.append("word").append(i).append("=g").append(gen).append('w').append(i).append('\n');
+
+        return sb.toString();
+    }
+
+    /** @return Abbreviation config service. */
+    private IgniteAbbreviationConfig config() {
+        return getProject().getService(IgniteAbbreviationConfig.class);
+    }
+}
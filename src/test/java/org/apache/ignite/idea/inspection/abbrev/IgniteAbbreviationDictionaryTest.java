@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection.abbrev;
+
+import com.sun.management.ThreadMXBean;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import junit.framework.TestCase;
+
+/** Tests {@link IgniteAbbreviationDictionary}. */
+public class IgniteAbbreviationDictionaryTest extends TestCase {
+    /** Tests case-insensitive lookups of char sequence regions. */
+    public void testRegionLookup() {
+        IgniteAbbreviationDictionary dict = dictionary();
+
+        String id = "remoteTopologyVERSIONCount";
+
+        assertNull(dict.abbreviation(id, 0, 6));
+        assertEquals("top", dict.abbreviation(id, 6, 8));
+        assertEquals("ver", dict.abbreviation(id, 14, 7));
+        assertEquals("cnt", dict.abbreviation(id, 21, 5));
+
+        assertNull(dict.abbreviation(id, 6, 7));
+        assertNull(dict.abbreviation(id, 6, 0));
+        assertNull(dict.abbreviation(id, 0, id.length()));
+
+        assertEquals("topology", dict.unwrapping(new StringBuilder("xTopY"), 1, 3));
+    }
+
+    /** Tests that words sharing the same abbreviation are all kept in definition order. */
+    public void testReverseCollisions() {
+        IgniteAbbreviationDictionary dict = dictionary();
+
+        assertEquals("init", dict.abbreviation("initial", 0, 7));
+        assertEquals("init", dict.abbreviation("initialize", 0, 10));
+
+        assertEquals("initial", dict.unwrapping("init", 0, 4));
+        assertEquals(List.of("initial", "initialize"), dict.unwrappings("INIT", 0, 4));
+        assertEquals(List.of("process", "processor"), dict.unwrappings("proc", 0, 4));
+        assertEquals(List.of("topology"), dict.unwrappings("top", 0, 3));
+        assertTrue(dict.unwrappings("foo", 0, 3).isEmpty());
+    }
+
+    /** Tests that plugin defaults keep all words of ambiguous abbreviations. */
+    public void testDefaultRules() throws Exception {
+        IgniteAbbreviationConfig.Config cfg;
+
+        try (InputStream is = getClass().getResourceAsStream("/abbreviation.properties")) {
+            cfg = new IgniteAbbreviationConfig.Config(is);
+        }
+
+        assertEquals(List.of("initial", "initialize"), cfg.getUnwrappings("init"));
+        assertEquals(List.of("process", "processor"), cfg.getUnwrappings("proc"));
+        assertEquals("cnt", cfg.getAbbreviation("Count"));
+        assertEquals("cnt", cfg.getAbbreviation("maxCount", 3, 5));
+
+        assertEquals("maxCnt", cfg.replaceWithAbbreviations("maxCount"));
+        assertEquals("CNT_ATTR", cfg.replaceWithAbbreviations("COUNT_ATTRIBUTE"));
+        assertEquals("initCnt2", cfg.replaceWithAbbreviations("initializeCount2"));
+    }
+
+    /** Tests that lookups do not allocate. */
+    public void testLookupsDoNotAllocate() {
+        IgniteAbbreviationDictionary dict = dictionary();
+
+        String id = "remoteTopologyVERSIONCount";
+
+        ThreadMXBean threads = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+        long tid = Thread.currentThread().getId();
+
+        // Warm up.
+        int found = lookups(dict, id, 100_000);
+
+        long before = threads.getThreadAllocatedBytes(tid);
+
+        found += lookups(dict, id, 1_000_000);
+
+        long allocated = threads.getThreadAllocatedBytes(tid) - before;
+
+        assertTrue(found > 0);
+        assertTrue("Allocated: " + allocated, allocated < 64 * 1024);
+    }
+
+    /**
+     * @param dict Dictionary.
+     * @param id Identifier.
+     * @param iters Number of iterations.
+     * @return Number of found abbreviations.
+     */
+    private static int lookups(IgniteAbbreviationDictionary dict, String id, int iters) {
+        int found = 0;
+
+        for (int i = 0; i < iters; i++) {
+            if (dict.abbreviation(id, 6, 8) != null)
+                found++;
+
+            if (dict.abbreviation(id, 0, 6) != null)
+                found++;
+
+            if (dict.unwrapping(id, 14, 3) != null)
+                found++;
+        }
+
+        return found;
+    }
+
+    /** @return Test dictionary. */
+    private static IgniteAbbreviationDictionary dictionary() {
+        Map<String, String> rules = new LinkedHashMap<>();
+
+        rules.put("count", "cnt");
+        rules.put("initial", "init");
+        rules.put("initialize", "init");
+        rules.put("process", "proc");
+        rules.put("processor", "proc");
+        rules.put("topology", "top");
+        rules.put("version", "ver");
+
+        return new IgniteAbbreviationDictionary(rules);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection.abbrev;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import junit.framework.TestCase;
+import org.apache.ignite.idea.util.IgniteUtils.CamelCaseSpans;
+
+/** Tests {@link IgniteAbbreviationVerdictCache}. */
+public class IgniteAbbreviationVerdictCacheTest extends TestCase {
+    /** Tests that repeated names are answered from the cache. */
+    public void testHitsAndMisses() throws Exception {
+        IgniteAbbreviationConfig.Config cfg = config("count=cnt\nvalue=val\n");
+
+        IgniteAbbreviationVerdictCache cache = new IgniteAbbreviationVerdictCache();
+
+        CamelCaseSpans spans = new CamelCaseSpans();
+
+        for (int i = 0; i < 10; i++) {
+            IgniteAbbreviationVerdictCache.Verdict verdict = cache.verdict(cfg, "maxCount", spans);
+
+            assertTrue(verdict.needsRename());
+            assertEquals("maxCnt", verdict.newName());
+
+            assertSame(IgniteAbbreviationVerdictCache.Verdict.CLEAN, cache.verdict(cfg, "maxCnt", spans));
+        }
+
+        assertEquals(2, cache.misses());
+        assertEquals(18, cache.hits());
+        assertEquals(2, cache.size());
+    }
+
+    /** Tests that verdicts computed with another rules snapshot are not reused. */
+    public void testVersionMismatch() throws Exception {
+        IgniteAbbreviationVerdictCache cache = new IgniteAbbreviationVerdictCache();
+
+        CamelCaseSpans spans = new CamelCaseSpans();
+
+        assertEquals("maxCnt", cache.verdict(config("count=cnt\n"), "maxCount", spans).newName());
+        assertEquals("maxCt", cache.verdict(config("count=ct\n"), "maxCount", spans).newName());
+        assertFalse(cache.verdict(config("foo=f\n"), "maxCount", spans).needsRename());
+
+        assertEquals(3, cache.misses());
+        assertEquals(0, cache.hits());
+        assertEquals(1, cache.size());
+    }
+
+    /** Tests that parts allowed to stay unabbreviated do not make a name dirty by themselves. */
+    public void testExceptions() throws Exception {
+        IgniteAbbreviationConfig.Config cfg = config("count=cnt\nvalue=val\n");
+
+        IgniteAbbreviationVerdictCache cache = new IgniteAbbreviationVerdictCache();
+
+        CamelCaseSpans spans = new CamelCaseSpans();
+
+        Set<String> exceptions = Set.of("value");
+
+        assertFalse(cache.verdict(cfg, "value", spans).needsRename(exceptions));
+        assertTrue(cache.verdict(cfg, "Value", spans).needsRename(exceptions));
+        assertTrue(cache.verdict(cfg, "valueCount", spans).needsRename(exceptions));
+        assertEquals("valCnt", cache.verdict(cfg, "valueCount", spans).newName());
+    }
+
+    /** Tests that the cache never exceeds its bounds. */
+    public void testEviction() throws Exception {
+        IgniteAbbreviationConfig.Config cfg = config("count=cnt\n");
+
+        IgniteAbbreviationVerdictCache cache = new IgniteAbbreviationVerdictCache(3, 8);
+
+        CamelCaseSpans spans = new CamelCaseSpans();
+
+        for (int i = 0; i < 10_000; i++)
+            cache.verdict(cfg, "count" + i, spans);
+
+        assertTrue("Size: " + cache.size(), cache.size() <= 4 * 8);
+        assertEquals(10_000, cache.misses());
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.misses());
+    }
+
+    /**
+     * @param rules Rules text.
+     * @return Rules snapshot.
+     * @throws IOException If failed.
+     */
+    private static IgniteAbbreviationConfig.Config config(String rules) throws IOException {
+        return new IgniteAbbreviationConfig.Config(new ByteArrayInputStream(rules.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.inspection.abbrev;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiLambdaExpression;
+import com.intellij.psi.PsiLocalVariable;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.refactoring.BaseRefactoringProcessor;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.intellij.util.ExceptionUtil;
+
+/** Tests {@link IgniteBulkRename}. */
+public class IgniteBulkRenameTest extends LightJavaCodeInsightFixtureTestCase {
+    /** Tests that elements and their usages in different files are renamed at once. */
+    public void testRenameAll() {
+        PsiClass cls = myFixture.addClass("public class Node {\n" +
+            "    public int address;\n" +
+            "    public int buffer;\n" +
+            "}");
+
+        myFixture.configureByText("Client.java", "class Client {\n" +
+            "    int f(Node node) {\n" +
+            "        int count = node.address + node.buffer;\n" +
+            "        return count;\n" +
+            "    }\n" +
+            "}");
+
+        PsiLocalVariable cnt = PsiTreeUtil.findChildOfType(myFixture.getFile(), PsiLocalVariable.class);
+
+        IgniteBulkRename rename = new IgniteBulkRename(getProject());
+
+        for (PsiField field : cls.getFields())
+            rename.add(field, "address".equals(field.getName()) ? "addr" : "buf");
+
+        rename.add(cnt, "cnt");
+
+        // Duplicates are ignored.
+        rename.add(cnt, "count0");
+
+        assertEquals(3, rename.size());
+
+        rename.run();
+
+        myFixture.checkResult("class Client {\n" +
+            "    int f(Node node) {\n" +
+            "        int cnt = node.addr + node.buf;\n" +
+            "        return cnt;\n" +
+            "    }\n" +
+            "}");
+
+        assertEquals("public class Node {\n" +
+            "    public int addr;\n" +
+            "    public int buf;\n" +
+            "}", cls.getContainingFile().getText());
+    }
+
+    /** Tests renaming of locals, lambda parameters and parameters of methods that can not be overridden. */
+    public void testRenameLocals() {
+        myFixture.configureByText("Locals.java", "class Locals {\n" +
+            "    /**\n" +
+            "     * @param count Count.\n" +
+            "     */\n" +
+            "    private int f(int count) {\n" +
+            "        int buffer = count;\n" +
+            "        java.util.function.IntUnaryOperator op = value -> value + buffer;\n" +
+            "        return op.applyAsInt(count);\n" +
+            "    }\n" +
+            "}");
+
+        PsiMethod mtd = ((PsiJavaFile)myFixture.getFile()).getClasses()[0].getMethods()[0];
+
+        IgniteBulkRename rename = new IgniteBulkRename(getProject());
+
+        rename.add(mtd.getParameterList().getParameters()[0], "cnt");
+        rename.add(PsiTreeUtil.findChildOfType(mtd, PsiLocalVariable.class), "buf");
+        rename.add(PsiTreeUtil.findChildOfType(mtd, PsiLambdaExpression.class).getParameterList().getParameters()[0],
+            "val");
+
+        rename.run();
+
+        myFixture.checkResult("class Locals {\n" +
+            "    /**\n" +
+            "     * @param cnt Count.\n" +
+            "     */\n" +
+            "    private int f(int cnt) {\n" +
+            "        int buf = cnt;\n" +
+            "        java.util.function.IntUnaryOperator op = val -> val + buf;\n" +
+            "        return op.applyAsInt(cnt);\n" +
+            "    }\n" +
+            "}");
+    }
+
+    /** Tests that locals are not renamed if the refactoring of other elements does not go ahead. */
+    public void testRenameCancelled() {
+        String text = "class Conflict {\n" +
+            "    int count;\n" +
+            "    int cnt;\n" +
+            "\n" +
+            "    int f() {\n" +
+            "        int buffer = count;\n" +
+            "        return buffer;\n" +
+            "    }\n" +
+            "}";
+
+        myFixture.configureByText("Conflict.java", text);
+
+        PsiClass cls = ((PsiJavaFile)myFixture.getFile()).getClasses()[0];
+
+        IgniteBulkRename rename = new IgniteBulkRename(getProject());
+
+        rename.add(PsiTreeUtil.findChildOfType(cls, PsiLocalVariable.class), "buf");
+        rename.add(cls.findFieldByName("count", false), "cnt");
+
+        Throwable err = null;
+
+        // Conflicts are thrown in tests instead of being shown in a dialog.
+        try {
+            rename.run();
+        }
+        catch (Throwable e) {
+            err = e;
+        }
+
+        assertNotNull(ExceptionUtil.findCause(err, BaseRefactoringProcessor.ConflictsInTestsException.class));
+
+        myFixture.checkResult(text);
+    }
+
+    /** Tests that a local is not renamed directly if it would shadow a field renamed to the same abbreviation. */
+    public void testRenameLocalShadowingField() {
+        String text = "class Worker {\n" +
+            "    Runnable processor;\n" +
+            "\n" +
+            "    void f() {\n" +
+            "        Runnable process = processor;\n" +
+            "        process.run();\n" +
+            "    }\n" +
+            "}";
+
+        myFixture.configureByText("Worker.java", text);
+
+        PsiClass cls = ((PsiJavaFile)myFixture.getFile()).getClasses()[0];
+
+        IgniteBulkRename rename = new IgniteBulkRename(getProject());
+
+        rename.add(cls.findFieldByName("processor", false), "proc");
+        rename.add(PsiTreeUtil.findChildOfType(cls, PsiLocalVariable.class), "proc");
+
+        Throwable err = null;
+
+        // The refactoring reports that the local hides the field.
+        try {
+            rename.run();
+        }
+        catch (Throwable e) {
+            err = e;
+        }
+
+        assertNotNull(ExceptionUtil.findCause(err, BaseRefactoringProcessor.ConflictsInTestsException.class));
+
+        myFixture.checkResult(text);
+    }
+}
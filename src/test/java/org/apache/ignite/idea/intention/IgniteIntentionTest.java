@@ -17,9 +17,13 @@
 
 package org.apache.ignite.idea.intention;
 
+import java.util.Arrays;
 import java.util.List;
 import com.intellij.codeInsight.daemon.impl.HighlightInfo;
 import com.intellij.codeInsight.intention.IntentionAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
 import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
 
 /** Tests Apache Ignite intentions. */
@@ -36,6 +40,18 @@ public class IgniteIntentionTest extends LightJavaCodeInsightFixtureTestCase {
         doTest("GetterSetter3", "Generate Apache Ignite style getter and setter");
     }
 
+    /** Tests generation of accessors of several fields at once. */
+    public void testGetterSetterBatch() {
+        myFixture.configureByFile("GetterSetterBatch.java");
+
+        PsiClass cls = ((PsiJavaFile)myFixture.getFile()).getClasses()[0];
+
+        WriteCommandAction.runWriteCommandAction(getProject(), () ->
+            new IgniteGetterSetterGenerator().generate(getProject(), cls, Arrays.asList(cls.getFields())));
+
+        myFixture.checkResultByFile("GetterSetterBatch.after.java");
+    }
+
     /** Tests {@link IgniteGetterSetterSubstitutor}. */
     public void testGetterSetterSubstitutor() {
         doTest("GetterSetterSubstitutor", "Ignitify getters and setters");
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.metrics;
+
+import java.io.StringWriter;
+import java.util.List;
+import com.intellij.openapi.util.registry.Registry;
+import com.intellij.openapi.util.registry.RegistryValue;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.SyntaxTraverser;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.intellij.util.TimeoutUtil;
+import org.apache.ignite.idea.inspection.IgniteBracketInspection;
+import org.apache.ignite.idea.inspection.abbrev.IgniteAbbreviationInspection;
+import org.apache.ignite.idea.metrics.IgniteInspectionMetrics.TimedVisitor;
+import org.jetbrains.annotations.NotNull;
+
+/** Tests {@link IgniteInspectionMetrics}. */
+public class IgniteInspectionMetricsTest extends LightJavaCodeInsightFixtureTestCase {
+    /** {@inheritDoc} */
+    @Override protected void tearDown() throws Exception {
+        try {
+            IgniteInspectionMetrics.setEnabled(false);
+
+            IgniteInspectionMetrics.getInstance().reset();
+        }
+        finally {
+            super.tearDown();
+        }
+    }
+
+    /** Tests aggregation by rule and the list of the slowest files. */
+    public void testRecord() throws Exception {
+        IgniteInspectionMetrics metrics = new IgniteInspectionMetrics();
+
+        for (int i = 0; i < IgniteInspectionMetrics.SLOWEST_CNT + 10; i++)
+            metrics.record("Fast", "/f" + i + ".java", 1_000L * i, 10);
+
+        metrics.record("Slow", "/slow.java", 5_000_000_000L, 100);
+
+        List<IgniteInspectionMetrics.RuleStats> rules = metrics.rules();
+
+        assertEquals(2, rules.size());
+        assertEquals("Slow", rules.get(0).rule());
+
+        IgniteInspectionMetrics.RuleStats fast = rules.get(1);
+
+        assertEquals(IgniteInspectionMetrics.SLOWEST_CNT + 10, fast.files());
+        assertEquals(10L * fast.files(), fast.elements());
+        assertEquals(1_000L * (IgniteInspectionMetrics.SLOWEST_CNT + 9), fast.maxNanos());
+        assertEquals(64, fast.quantileMicros(0.9));
+
+        List<IgniteInspectionMetrics.FileSample> slowest = metrics.slowestFiles();
+
+        assertEquals(IgniteInspectionMetrics.SLOWEST_CNT, slowest.size());
+        assertEquals("/slow.java", slowest.get(0).path());
+
+        for (int i = 1; i < slowest.size(); i++)
+            assertTrue(slowest.get(i - 1).nanos() >= slowest.get(i).nanos());
+
+        StringWriter out = new StringWriter();
+
+        metrics.writeJson(out);
+
+        assertTrue(out.toString(), out.toString().contains("{\"path\": \"/slow.java\", \"rule\": \"Slow\", " +
+            "\"nanos\": 5000000000, \"elements\": 100}"));
+
+        metrics.reset();
+
+        assertTrue(metrics.rules().isEmpty());
+        assertTrue(metrics.slowestFiles().isEmpty());
+    }
+
+    /** Tests that visitors of the rules are timed only while recording is enabled. */
+    public void testInstrumentation() {
+        myFixture.enableInspections(new IgniteBracketInspection(), new IgniteAbbreviationInspection());
+
+        myFixture.configureByText("Test.java", "class Test { int count; }");
+
+        // Neither recording nor the watchdog is on by default.
+        assertFalse(IgniteInspectionMetrics.isInstrumented());
+
+        myFixture.doHighlighting();
+
+        assertTrue(IgniteInspectionMetrics.getInstance().rules().isEmpty());
+
+        IgniteInspectionMetrics.setEnabled(true);
+
+        myFixture.configureByText("Test2.java", "class Test2 { int count; }");
+
+        myFixture.doHighlighting();
+
+        IgniteInspectionMetrics metrics = IgniteInspectionMetrics.getInstance();
+
+        assertTrue(metrics.rules().stream().anyMatch(stats -> "IgniteBracket".equals(stats.rule())));
+        assertTrue(metrics.rules().stream().allMatch(stats -> stats.files() > 0 && stats.elements() > 0));
+        assertTrue(metrics.slowestFiles().stream().allMatch(sample -> sample.path().endsWith("Test2.java")));
+    }
+
+    /** Tests that a rule slower than the budget is logged with stacks sampled inside the rule. */
+    public void testSlowFileWatchdog() {
+        PsiFile file = myFixture.configureByText("Slow.java", "class Slow { int a; int b; }");
+
+        RegistryValue budget = Registry.get(IgniteSlowFileWatchdog.BUDGET_KEY);
+
+        budget.setValue(20);
+
+        try {
+            IgniteSlowFileWatchdog watchdog = new IgniteSlowFileWatchdog();
+
+            TimedVisitor fast = new TimedVisitor(new PsiElementVisitor() {}, watchdog);
+
+            TimedVisitor slow = new TimedVisitor(new PsiElementVisitor() {
+                /** {@inheritDoc} */
+                @Override public void visitElement(@NotNull PsiElement element) {
+                    TimeoutUtil.sleep(20);
+                }
+            }, watchdog);
+
+            for (PsiElement el : SyntaxTraverser.psiTraverser(file)) {
+                fast.visitElement(el);
+                slow.visitElement(el);
+            }
+
+            assertNull(watchdog.finished("FastRule", "/Slow.java", fast));
+
+            String report = watchdog.finished("SlowRule", "/Slow.java", slow);
+
+            assertNotNull(report);
+            assertTrue(report, report.startsWith("Slow inspection [rule=SlowRule, file=/Slow.java"));
+            assertTrue(report, report.contains("elements=" + slow.elements));
+            assertTrue(report, report.contains("TimeoutUtil.sleep"));
+        }
+        finally {
+            budget.resetToDefault();
+        }
+    }
+}
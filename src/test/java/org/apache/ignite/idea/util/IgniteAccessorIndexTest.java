@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.util;
+
+import java.util.List;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiType;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import org.apache.ignite.idea.intention.IgniteGetterSetterGenerator;
+
+/** Tests {@link IgniteAccessorIndex}. */
+public class IgniteAccessorIndexTest extends LightJavaCodeInsightFixtureTestCase {
+    /** Tests that declared and inherited accessors are found by name and substituted erased parameter type. */
+    public void testAccessors() {
+        myFixture.addClass("class Base<T> { public int count() { return 0; } public void value(T val) {} }");
+
+        PsiClass cls = myFixture.addClass("class Cfg extends Base<String> {\n" +
+            "    int cnt;\n" +
+            "    String value;\n" +
+            "    String label;\n" +
+            "    final long size = 0;\n" +
+            "    java.util.List<String> names;\n" +
+            "    public void names(java.util.List<Integer> names) {}\n" +
+            "}");
+
+        PsiType str = cls.findFieldByName("value", false).getType();
+
+        assertTrue(IgniteAccessorIndex.hasGetter(cls, "count"));
+        assertTrue(IgniteAccessorIndex.hasGetter(cls, "hashCode"));
+        assertFalse(IgniteAccessorIndex.hasGetter(cls, "value"));
+
+        // The inherited setter parameter T is String in the class.
+        assertTrue(IgniteAccessorIndex.hasSetter(cls, "value", str));
+        assertFalse(IgniteAccessorIndex.hasSetter(cls, "value",
+            PsiType.getJavaLangObject(getPsiManager(), cls.getResolveScope())));
+
+        assertTrue(IgniteAccessorIndex.hasSetter(cls, "names", cls.findFieldByName("names", false).getType()));
+
+        List<PsiField> fields = new IgniteGetterSetterGenerator().availableFields(getProject(), cls);
+
+        // Accessors of "cnt" are named "count", "value" would override the inherited setter, a final field has no
+        // setter and "names" has one.
+        assertEquals(1, fields.size());
+        assertEquals("label", fields.get(0).getName());
+    }
+
+    /** Tests that cached signatures are dropped on PSI modification. */
+    public void testInvalidation() {
+        PsiClass cls = myFixture.addClass("class Cfg { int size; }");
+
+        assertFalse(IgniteAccessorIndex.hasGetter(cls, "size"));
+
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> cls.add(
+            JavaPsiFacade.getElementFactory(getProject()).createMethodFromText("int size() { return size; }", cls)));
+
+        assertTrue(IgniteAccessorIndex.hasGetter(cls, "size"));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.util;
+
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+
+import static org.apache.ignite.idea.util.IgniteLayoutUtils.blankLinesBetween;
+import static org.apache.ignite.idea.util.IgniteLayoutUtils.hasLineBreak;
+import static org.apache.ignite.idea.util.IgniteLayoutUtils.isSingleLine;
+import static org.apache.ignite.idea.util.IgniteLayoutUtils.sameLine;
+
+/** Tests {@link IgniteLayoutUtils}. */
+public class IgniteLayoutUtilsTest extends LightJavaCodeInsightFixtureTestCase {
+    /** Tests line checks of annotations, members and statements. */
+    public void testLayout() {
+        myFixture.configureByText("Layout.java", "class Layout {\n" +
+            "\n" +
+            "\n" +
+            "    /** Doc. */ @Deprecated\n" +
+            "    @Override /* Comment. */ public String toString() {\n" +
+            "        return \"a\" +\n" +
+            "            \"b\";\n" +
+            "    }\n" +
+            "\n" +
+            "    @SuppressWarnings(\"all\") void f() { f(); }\n" +
+            "}");
+
+        PsiClass cls = ((PsiJavaFile)myFixture.getFile()).getClasses()[0];
+
+        PsiMethod toStr = cls.getMethods()[0];
+        PsiMethod f = cls.getMethods()[1];
+
+        PsiAnnotation deprecated = toStr.getModifierList().getAnnotations()[0];
+        PsiAnnotation override = toStr.getModifierList().getAnnotations()[1];
+        PsiAnnotation suppress = f.getModifierList().getAnnotations()[0];
+
+        PsiElement lbrace = cls.getLBrace();
+
+        // Doc comment is a part of the method.
+        assertEquals(2, blankLinesBetween(lbrace, toStr));
+        assertEquals(1, blankLinesBetween(toStr, f));
+        assertEquals(0, blankLinesBetween(deprecated, override));
+
+        assertTrue(hasLineBreak(deprecated, false));
+        assertTrue(hasLineBreak(deprecated, true));
+        assertTrue(hasLineBreak(override, false));
+        assertFalse(hasLineBreak(override, true));
+        assertTrue(hasLineBreak(suppress, false));
+        assertFalse(hasLineBreak(suppress, true));
+
+        assertFalse(sameLine(deprecated, override));
+        assertTrue(sameLine(suppress, f.getBody()));
+
+        assertFalse(isSingleLine(toStr.getBody().getStatements()[0]));
+        assertTrue(isSingleLine(f.getBody().getStatements()[0]));
+    }
+}
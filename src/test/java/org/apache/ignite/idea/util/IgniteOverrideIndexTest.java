@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.util;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+
+/** Tests {@link IgniteOverrideIndex}. */
+public class IgniteOverrideIndexTest extends LightJavaCodeInsightFixtureTestCase {
+    /** Tests that overriding and implementing methods are found, including those of indirect supers. */
+    public void testOverrides() {
+        myFixture.addClass("interface Cache { void put(Object key); Object get(Object key); }");
+        myFixture.addClass("abstract class CacheAdapter implements Cache { " +
+            "public Object get(Object key) { return null; } }");
+
+        PsiClass cls = myFixture.addClass("class CacheProxy extends CacheAdapter {\n" +
+            "    CacheProxy() {}\n" +
+            "    public void put(Object key) {}\n" +
+            "    public Object get(Object key) { return null; }\n" +
+            "    public Object get(Object key, int part) { return null; }\n" +
+            "    public String toString() { return \"\"; }\n" +
+            "    private void remove(Object key) {}\n" +
+            "    static void put() {}\n" +
+            "}");
+
+        for (PsiMethod mtd : cls.getMethods()) {
+            boolean exp = mtd.findSuperMethods().length > 0;
+
+            assertEquals(mtd.getText(), exp, IgniteOverrideIndex.isOverride(mtd));
+        }
+
+        assertEquals(3, IgniteOverrideIndex.overriding(cls).size());
+    }
+
+    /** Tests that cached overrides are dropped on PSI modification. */
+    public void testInvalidation() {
+        PsiClass iface = myFixture.addClass("interface Cache { void put(Object key); }");
+        PsiClass cls = myFixture.addClass("class CacheImpl implements Cache { public void put(Object key) {} " +
+            "public void clear() {} }");
+
+        PsiMethod clear = cls.findMethodsByName("clear", false)[0];
+
+        assertFalse(IgniteOverrideIndex.isOverride(clear));
+
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> iface.add(
+            JavaPsiFacade.getElementFactory(getProject()).createMethodFromText("void clear();", iface)));
+
+        assertTrue(IgniteOverrideIndex.isOverride(clear));
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.idea.util;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests {@link IgniteUtils}. */
+public class IgniteUtilsTest extends TestCase {
+    /** Number of generated identifiers. */
+    private static final int CORPUS_SIZE = 200_000;
+
+    /** Chars of generated identifiers, biased towards ASCII letters. */
+    private static final String ALPHABET = "abcxyzABCXYZ0129_$\u00e9\u00c9\u01c5\u4e2d";
+
+    /** Well-known identifiers. */
+    private static final String[] IDENTIFIERS = {
+        "", "a", "A", "_", "$", "1", "cacheName", "CacheName", "topVer", "AffinityTopologyVersion",
+        "GridCacheIoManager", "IGNITE_HOME", "UUID", "nodeUUID", "UUIDNode", "msgV2", "V2Msg", "v42v",
+        "HTTPServer", "parseHTTPResponse", "__proto__", "x_y_z", "ABCdef1GHi", "MAX_VALUE", "i18n", "A1B2c3",
+        "initialize2", "process1"
+    };
+
+    /** Tests that the offset based tokenizer splits exactly like the legacy one. */
+    public void testSplitMatchesLegacyTokenizer() {
+        IgniteUtils.CamelCaseSpans spans = new IgniteUtils.CamelCaseSpans();
+
+        for (String id : IDENTIFIERS)
+            checkSplit(id, spans);
+
+        Random rnd = new Random(42);
+
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            char[] chars = new char[rnd.nextInt(24)];
+
+            for (int j = 0; j < chars.length; j++)
+                chars[j] = ALPHABET.charAt(rnd.nextInt(ALPHABET.length()));
+
+            checkSplit(new String(chars), spans);
+        }
+    }
+
+    /** Tests camel case transformation. */
+    public void testTransformCamelCase() {
+        String res = IgniteUtils.transformCamelCase("remoteTopVERSION42",
+            (s, start, end, idx, out) -> IgniteUtils.appendLowerCase(out, s, start, end, idx == 0).append('|'));
+
+        assertEquals("Remote|top|version|42|", res);
+
+        res = IgniteUtils.transformCamelCase("a_bc",
+            (s, start, end, idx, out) -> {
+                if (!IgniteUtils.isChar(s, start, end, '_'))
+                    IgniteUtils.appendCapitalized(out, s, start, end);
+            });
+
+        assertEquals("ABc", res);
+    }
+
+    /**
+     * @param id Identifier.
+     * @param spans Reusable spans.
+     */
+    private static void checkSplit(String id, IgniteUtils.CamelCaseSpans spans) {
+        List<String> expected = legacyCamelCaseParts(id);
+
+        IgniteUtils.splitCamelCase(id, spans);
+
+        List<String> actual = new ArrayList<>(spans.size());
+
+        int prevEnd = 0;
+
+        for (int i = 0; i < spans.size(); i++) {
+            assertEquals("Parts must be contiguous: " + id, prevEnd, spans.start(i));
+
+            actual.add(id.substring(spans.start(i), spans.end(i)));
+
+            prevEnd = spans.end(i);
+        }
+
+        assertEquals("Parts must cover the identifier: " + id, id.length(), prevEnd);
+        assertEquals("Unexpected split: " + id, expected, actual);
+        assertEquals(expected, IgniteUtils.camelCaseParts(id));
+    }
+
+    /**
+     * State machine based tokenizer that used to be {@code IgniteUtils.camelCaseParts}, kept as a reference.
+     *
+     * @param camelCase Camel case string.
+     * @return List containing camel case parts.
+     */
+    private static List<String> legacyCamelCaseParts(String camelCase) {
+        List<String> res = new LinkedList<String>();
+
+        StringBuilder sb = new StringBuilder();
+
+        // 0 - start, 1 - capital, 2 - word, 3 - number, 4 - abbreviation.
+        int state = 0;
+
+        char pending = 0;
+
+        for (int i = 0; i < camelCase.length(); i++) {
+            char c = camelCase.charAt(i);
+
+            switch (state) {
+                case 0:
+                    sb.append(c);
+
+                    if (Character.isLowerCase(c))
+                        state = 2;
+                    else if (Character.isUpperCase(c))
+                        state = 1;
+                    else if (Character.isDigit(c))
+                        state = 3;
+                    else {
+                        res.add(sb.toString());
+
+                        sb.setLength(0);
+                    }
+                    break;
+
+                case 1:
+                    if (Character.isLowerCase(c)) {
+                        sb.append(c);
+
+                        state = 2;
+                    }
+                    else if (Character.isUpperCase(c)) {
+                        pending = c;
+
+                        state = 4;
+                    }
+                    else if (Character.isDigit(c)) {
+                        res.add(sb.toString());
+
+                        sb.setLength(0);
+
+                        sb.append(c);
+
+                        state = 3;
+                    }
+                    else {
+                        res.add(sb.toString());
+
+                        sb.setLength(0);
+
+                        res.add(String.valueOf(c));
+
+                        state = 0;
+                    }
+                    break;
+
+                case 2:
+                    if (Character.isLowerCase(c))
+                        sb.append(c);
+                    else {
+                        res.add(sb.toString());
+
+                        sb.setLength(0);
+
+                        state = 0;
+
+                        i--;
+                    }
+                    break;
+
+                case 4:
+                    if (Character.isUpperCase(c)) {
+                        sb.append(pending);
+
+                        pending = c;
+                    }
+                    else if (Character.isLowerCase(c)) {
+                        res.add(sb.toString());
+
+                        sb.setLength(0);
+
+                        sb.append(pending).append(c);
+
+                        state = 2;
+                    }
+                    else {
+                        sb.append(pending);
+
+                        res.add(sb.toString());
+
+                        sb.setLength(0);
+
+                        state = 0;
+
+                        i--;
+                    }
+                    break;
+
+                case 3:
+                    if (Character.isDigit(c))
+                        sb.append(c);
+                    else {
+                        res.add(sb.toString());
+
+                        sb.setLength(0);
+
+                        state = 0;
+
+                        i--;
+                    }
+                    break;
+            }
+        }
+
+        if (state == 4)
+            sb.append(pending);
+
+        if (sb.length() > 0)
+            res.add(sb.toString());
+
+        return res;
+    }
+}